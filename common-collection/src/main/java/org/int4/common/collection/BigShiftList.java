@@ -0,0 +1,479 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.int4.common.collection;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A resizable sequence of elements addressed with {@code long} indices, which can hold far more
+ * elements than the {@code 2^30 - 65536} elements a single {@link ShiftList} can hold.
+ *
+ * <p>The elements are stored in chunks, each a {@code ShiftList}, which are kept in a directory,
+ * itself also a {@code ShiftList}. All chunks except the first and the last are always full, so
+ * the chunk holding an element is found with a single division, and {@link #get(long)} and
+ * {@link #set(long, Object)} are constant-time. Where {@code ShiftList} rotates blocks, this class
+ * moves a single element between each pair of neighbouring chunks:
+ * <ul>
+ *   <li>Insertions and removals at either end are amortized {@code O(1)}, as they only affect
+ *       the first or last chunk, and chunks are added and removed at either end of the directory.</li>
+ *   <li>Insertions and removals elsewhere modify one chunk with the costs of a {@code ShiftList},
+ *       and then move one element from or to each chunk towards the nearest end of the sequence,
+ *       which is amortized {@code O(1)} per chunk.</li>
+ * </ul>
+ *
+ * <p>Each chunk holds at most {@code 2^18 - 4096} elements, which exactly fills its backing
+ * array. As this class uses {@code long} indices, it does not implement {@link java.util.List};
+ * it is {@link Iterable}, and provides {@link #stream()} for bulk access.
+ *
+ * <p>This class allows {@code null} elements. Its iterators are fail-fast.
+ *
+ * <p>This class is <strong>not thread-safe</strong>.
+ *
+ * @param <E> the type of elements in this sequence
+ * @see ShiftList
+ * @author John Hendrikx
+ */
+public final class BigShiftList<E> implements Iterable<E> {
+  private static final int CHUNK_SIZE = (1 << 18) - (1 << 12);  // largest size of a ShiftList with a backing array of 2^18
+
+  private final ShiftList<ShiftList<E>> chunks = new ShiftList<>();
+  private final int chunkSize;
+
+  private long size;
+  private int modCount;
+
+  /**
+   * Constructs a new instance with no elements.
+   */
+  public BigShiftList() {
+    this(CHUNK_SIZE);
+  }
+
+  /**
+   * Constructs a new instance with no elements, using chunks of the given size.
+   */
+  BigShiftList(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Returns the number of elements in this sequence.
+   *
+   * @return the number of elements in this sequence
+   */
+  public long size64() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if this sequence contains no elements.
+   *
+   * @return {@code true} if this sequence contains no elements
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the element at the given index.
+   *
+   * @param index an index
+   * @return the element at the given index, can be {@code null}
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public E get(long index) {
+    Objects.checkIndex(index, size);
+
+    int firstSize = chunks.getFirst().size();
+
+    if(index < firstSize) {
+      return chunks.getFirst().get((int)index);
+    }
+
+    long remainder = index - firstSize;
+
+    return chunks.get(1 + (int)(remainder / chunkSize)).get((int)(remainder % chunkSize));
+  }
+
+  /**
+   * Replaces the element at the given index.
+   *
+   * @param index an index
+   * @param element an element to store, can be {@code null}
+   * @return the element previously at the given index, can be {@code null}
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public E set(long index, E element) {
+    Objects.checkIndex(index, size);
+
+    int firstSize = chunks.getFirst().size();
+
+    if(index < firstSize) {
+      return chunks.getFirst().set((int)index, element);
+    }
+
+    long remainder = index - firstSize;
+
+    return chunks.get(1 + (int)(remainder / chunkSize)).set((int)(remainder % chunkSize), element);
+  }
+
+  /**
+   * Returns the first element.
+   *
+   * @return the first element, can be {@code null}
+   * @throws NoSuchElementException if this sequence is empty
+   */
+  public E getFirst() {
+    if(size == 0) {
+      throw new NoSuchElementException();
+    }
+
+    return chunks.getFirst().getFirst();
+  }
+
+  /**
+   * Returns the last element.
+   *
+   * @return the last element, can be {@code null}
+   * @throws NoSuchElementException if this sequence is empty
+   */
+  public E getLast() {
+    if(size == 0) {
+      throw new NoSuchElementException();
+    }
+
+    return chunks.getLast().getLast();
+  }
+
+  /**
+   * Appends the given element to the end of this sequence.
+   *
+   * @param element an element to add, can be {@code null}
+   */
+  public void add(E element) {
+    addLast(element);
+  }
+
+  /**
+   * Inserts the given element at the start of this sequence.
+   *
+   * @param element an element to add, can be {@code null}
+   */
+  public void addFirst(E element) {
+    if(size == 0 || chunks.getFirst().size() == chunkSize) {
+      chunks.addFirst(new ShiftList<>());
+    }
+
+    chunks.getFirst().addFirst(element);
+    size++;
+    modCount++;
+  }
+
+  /**
+   * Appends the given element to the end of this sequence.
+   *
+   * @param element an element to add, can be {@code null}
+   */
+  public void addLast(E element) {
+    if(size == 0 || chunks.getLast().size() == chunkSize) {
+      chunks.addLast(new ShiftList<>());
+    }
+
+    chunks.getLast().addLast(element);
+    size++;
+    modCount++;
+  }
+
+  /**
+   * Inserts the given element at the given index, shifting the element currently
+   * at that index (if any) and any subsequent elements up by one.
+   *
+   * @param index an index at which to insert the element
+   * @param element an element to insert, can be {@code null}
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public void add(long index, E element) {
+    Objects.checkIndex(index, size + 1);
+
+    if(index == 0) {
+      addFirst(element);
+
+      return;
+    }
+
+    if(index == size) {
+      addLast(element);
+
+      return;
+    }
+
+    if(index >= size >> 1) {
+
+      /*
+       * Inserts before the element currently at the index. If its chunk is full,
+       * the last element of each chunk from there on moves to the start of the
+       * next chunk first, starting at the end:
+       */
+
+      int chunk = chunkOf(index);
+      int slot = slotOf(index, chunk);
+
+      if(chunks.get(chunk).size() == chunkSize) {
+        if(chunks.getLast().size() == chunkSize) {
+          chunks.addLast(new ShiftList<>());
+        }
+
+        for(int c = chunks.size() - 1; c > chunk; c--) {
+          chunks.get(c).addFirst(chunks.get(c - 1).removeLast());
+        }
+      }
+
+      chunks.get(chunk).add(slot, element);
+    }
+    else {
+
+      /*
+       * Inserts after the element currently before the index. If its chunk is full,
+       * the first element of each chunk up to there moves to the end of the previous
+       * chunk first, starting at the start:
+       */
+
+      int chunk = chunkOf(index - 1);
+      int slot = slotOf(index - 1, chunk) + 1;
+
+      if(chunks.get(chunk).size() == chunkSize) {
+        if(chunks.getFirst().size() == chunkSize) {
+          chunks.addFirst(new ShiftList<>());
+          chunk++;
+        }
+
+        for(int c = 0; c < chunk; c++) {
+          chunks.get(c).addLast(chunks.get(c + 1).removeFirst());
+        }
+
+        slot--;
+      }
+
+      chunks.get(chunk).add(slot, element);
+    }
+
+    size++;
+    modCount++;
+  }
+
+  /**
+   * Removes the first element.
+   *
+   * @return the removed element, can be {@code null}
+   * @throws NoSuchElementException if this sequence is empty
+   */
+  public E removeFirst() {
+    if(size == 0) {
+      throw new NoSuchElementException();
+    }
+
+    E element = chunks.getFirst().removeFirst();
+
+    if(chunks.getFirst().isEmpty()) {
+      chunks.removeFirst();
+    }
+
+    size--;
+    modCount++;
+
+    return element;
+  }
+
+  /**
+   * Removes the last element.
+   *
+   * @return the removed element, can be {@code null}
+   * @throws NoSuchElementException if this sequence is empty
+   */
+  public E removeLast() {
+    if(size == 0) {
+      throw new NoSuchElementException();
+    }
+
+    E element = chunks.getLast().removeLast();
+
+    if(chunks.getLast().isEmpty()) {
+      chunks.removeLast();
+    }
+
+    size--;
+    modCount++;
+
+    return element;
+  }
+
+  /**
+   * Removes the element at the given index, shifting any subsequent elements down by one.
+   *
+   * @param index an index
+   * @return the removed element, can be {@code null}
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public E remove(long index) {
+    Objects.checkIndex(index, size);
+
+    int chunk = chunkOf(index);
+    E element = chunks.get(chunk).remove(slotOf(index, chunk));
+
+    if(index >= size >> 1) {
+      int last = chunks.size() - 1;
+
+      for(int c = chunk; c < last; c++) {  // refill each chunk from the start of the next chunk
+        chunks.get(c).addLast(chunks.get(c + 1).removeFirst());
+      }
+
+      if(chunks.getLast().isEmpty()) {
+        chunks.removeLast();
+      }
+    }
+    else {
+      for(int c = chunk; c > 0; c--) {  // refill each chunk from the end of the previous chunk
+        chunks.get(c).addFirst(chunks.get(c - 1).removeLast());
+      }
+
+      if(chunks.getFirst().isEmpty()) {
+        chunks.removeFirst();
+      }
+    }
+
+    size--;
+    modCount++;
+
+    return element;
+  }
+
+  /**
+   * Removes all elements from this sequence.
+   */
+  public void clear() {
+    chunks.clear();
+    size = 0;
+    modCount++;
+  }
+
+  /**
+   * Returns a fail-fast iterator over the elements in this sequence in order.
+   *
+   * @return an iterator, never {@code null}
+   */
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  /**
+   * Creates a fail-fast {@link Spliterator} over the elements in this sequence,
+   * which reports {@link Spliterator#SIZED} and {@link Spliterator#ORDERED}.
+   *
+   * @return a spliterator, never {@code null}
+   */
+  @Override
+  public Spliterator<E> spliterator() {
+    return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+  }
+
+  /**
+   * Returns a sequential stream of the elements in this sequence.
+   *
+   * @return a stream, never {@code null}
+   */
+  public Stream<E> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+
+    for(ShiftList<E> chunk : chunks) {
+      for(E element : chunk) {
+        if(builder.length() > 1) {
+          builder.append(", ");
+        }
+
+        builder.append(element);
+      }
+    }
+
+    return builder.append("]").toString();
+  }
+
+  /**
+   * Returns the index of the chunk containing the element at the given index.
+   */
+  private int chunkOf(long index) {
+    int firstSize = chunks.getFirst().size();
+
+    return index < firstSize ? 0 : 1 + (int)((index - firstSize) / chunkSize);
+  }
+
+  /**
+   * Returns the index within the given chunk of the element at the given index.
+   */
+  private int slotOf(long index, int chunk) {
+    return chunk == 0 ? (int)index : (int)((index - chunks.getFirst().size()) % chunkSize);
+  }
+
+  private final class Itr implements Iterator<E> {
+    private final int expectedModCount = modCount;
+    private final Iterator<ShiftList<E>> chunkIterator = chunks.iterator();
+
+    private Iterator<E> iterator = chunkIterator.hasNext() ? chunkIterator.next().iterator() : null;
+
+    @Override
+    public boolean hasNext() {
+      return iterator != null && (iterator.hasNext() || chunkIterator.hasNext());
+    }
+
+    @Override
+    public E next() {
+      if(modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+
+      if(!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      if(!iterator.hasNext()) {
+        iterator = chunkIterator.next().iterator();
+      }
+
+      return iterator.next();
+    }
+  }
+}
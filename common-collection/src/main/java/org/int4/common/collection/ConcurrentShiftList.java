@@ -0,0 +1,342 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.int4.common.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe list backed by a {@link ShiftList}, for use cases where reads greatly
+ * outnumber modifications.
+ *
+ * <p>Modifications take an exclusive lock. Reads of single elements and of the size do
+ * not lock at all: they read the list optimistically, and then validate that no modification
+ * took place in the meantime using a {@link StampedLock}. Only when validation fails, which
+ * requires a concurrent modification, is the read repeated while holding a shared lock. As
+ * optimistic reads do not write to shared memory, concurrent readers do not contend with each
+ * other, unlike with a list wrapped with {@link Collections#synchronizedList(List)}.
+ *
+ * <p>Searches, such as {@link #indexOf(Object)}, and {@link #equals(Object)} and {@link #hashCode()}
+ * run under a shared lock. Iterators, list iterators, spliterators, streams and {@link #toArray()}
+ * operate on a snapshot of the list taken under a shared lock, and so never throw
+ * {@link java.util.ConcurrentModificationException}. The iterators do not support modifications.
+ *
+ * <p>{@link #sort(Comparator)}, {@link #replaceAll(UnaryOperator)}, {@link #removeIf(Predicate)},
+ * {@link #removeAll(Collection)} and {@link #retainAll(Collection)} are atomic, and run under the
+ * exclusive lock; the functions passed to them must not access this list. Other operations
+ * inherited from {@link AbstractList} which combine several operations, such as
+ * {@link #subList(int, int)} and {@link #addAll(Collection)}, are not atomic.
+ *
+ * <p>This list allows {@code null} elements.
+ *
+ * @param <E> the type of elements in this list
+ * @see ShiftList
+ * @author John Hendrikx
+ */
+public final class ConcurrentShiftList<E> extends AbstractList<E> implements RandomAccess {
+  private final StampedLock lock = new StampedLock();
+  private final ShiftList<E> list;
+
+  /**
+   * Constructs a new empty list.
+   */
+  public ConcurrentShiftList() {
+    this.list = new ShiftList<>();
+  }
+
+  /**
+   * Constructs a new list containing the elements of the given collection, in
+   * the order they are returned by its iterator.
+   *
+   * @param collection a {@link Collection}, cannot be {@code null}
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public ConcurrentShiftList(Collection<? extends E> collection) {
+    this.list = new ShiftList<>(collection);
+  }
+
+  @Override
+  public int size() {
+    return read(list::size);
+  }
+
+  @Override
+  public E get(int index) {
+    return read(() -> list.get(index));
+  }
+
+  @Override
+  public E getFirst() {
+    return read(list::getFirst);
+  }
+
+  @Override
+  public E getLast() {
+    return read(list::getLast);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    return write(() -> list.set(index, element));
+  }
+
+  @Override
+  public boolean add(E element) {
+    addLast(element);
+
+    return true;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    write(() -> {
+      list.add(index, element);
+
+      return null;
+    });
+  }
+
+  @Override
+  public void addFirst(E element) {
+    write(() -> {
+      list.addFirst(element);
+
+      return null;
+    });
+  }
+
+  @Override
+  public void addLast(E element) {
+    write(() -> {
+      list.addLast(element);
+
+      return null;
+    });
+  }
+
+  @Override
+  public E remove(int index) {
+    return write(() -> list.remove(index));
+  }
+
+  @Override
+  public E removeFirst() {
+    return write(list::removeFirst);
+  }
+
+  @Override
+  public E removeLast() {
+    return write(list::removeLast);
+  }
+
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    write(() -> {
+      list.subList(fromIndex, toIndex).clear();
+
+      return null;
+    });
+  }
+
+  @Override
+  public void clear() {
+    write(() -> {
+      list.clear();
+
+      return null;
+    });
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super E> filter) {
+    return write(() -> list.removeIf(filter));
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    Collection<?> elements = detach(c);
+
+    return write(() -> list.removeAll(elements));
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    Collection<?> elements = detach(c);
+
+    return write(() -> list.retainAll(elements));
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    write(() -> {
+      list.replaceAll(operator);
+
+      return null;
+    });
+  }
+
+  @Override
+  public void sort(Comparator<? super E> c) {
+    write(() -> {
+      list.sort(c);
+
+      return null;
+    });
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return readLocked(() -> list.contains(o));
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return readLocked(() -> list.indexOf(o));
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return readLocked(() -> list.lastIndexOf(o));
+  }
+
+  @Override
+  public Object[] toArray() {
+    return readLocked(list::toArray);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return listIterator(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    return snapshot().listIterator(index);
+  }
+
+  @Override
+  public Spliterator<E> spliterator() {
+    return snapshot().spliterator();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if(obj == this) {
+      return true;
+    }
+
+    Object other = obj instanceof Collection<?> c ? detach(c) : obj;
+
+    return readLocked(() -> list.equals(other));
+  }
+
+  @Override
+  public int hashCode() {
+    return readLocked(list::hashCode);
+  }
+
+  private List<E> snapshot() {
+    @SuppressWarnings("unchecked")
+    List<E> snapshot = (List<E>)Arrays.asList(toArray());
+
+    return Collections.unmodifiableList(snapshot);
+  }
+
+  /**
+   * Returns a snapshot of the given collection if it is a {@link ConcurrentShiftList}, so
+   * that its lock is not taken while holding the lock of this list, which could deadlock.
+   */
+  private static Collection<?> detach(Collection<?> c) {
+    return c instanceof ConcurrentShiftList<?> l ? l.snapshot() : c;
+  }
+
+  /**
+   * Performs the given read without locking, and validates afterwards that no modification
+   * took place concurrently. An unsynchronized read may observe the list in an inconsistent
+   * state, in which case it can return a wrong result or throw an exception; both are
+   * discarded when validation fails, and the read is then repeated under a shared lock.
+   */
+  private <T> T read(Supplier<T> reader) {
+    long stamp = lock.tryOptimisticRead();
+
+    if(stamp != 0) {
+      try {
+        T result = reader.get();
+
+        if(lock.validate(stamp)) {
+          return result;
+        }
+      }
+      catch(RuntimeException e) {
+        if(lock.validate(stamp)) {
+          throw e;  // a genuine exception, such as an index out of range
+        }
+      }
+    }
+
+    return readLocked(reader);
+  }
+
+  /**
+   * Performs the given read under a shared lock. This is used instead of an optimistic
+   * read for reads which scan the list or call methods of its elements, as these should
+   * not observe an inconsistent state, and are more likely to need repeating.
+   */
+  private <T> T readLocked(Supplier<T> reader) {
+    long stamp = lock.readLock();
+
+    try {
+      return reader.get();
+    }
+    finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private <T> T write(Supplier<T> writer) {
+    long stamp = lock.writeLock();
+
+    try {
+      modCount++;
+
+      return writer.get();
+    }
+    finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+}
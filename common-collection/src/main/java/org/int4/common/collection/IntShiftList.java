@@ -0,0 +1,379 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.int4.common.collection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A resizable list of {@code int} values, using the same block rotation layout as
+ * {@link ShiftList}. Values are stored unboxed in a single {@code int[]}, which avoids
+ * the memory overhead of boxing and the indirection when reading values, while
+ * insertions and removals at arbitrary positions move at most {@code O(n / blockSize)}
+ * values between blocks, and insertions and removals at either end are {@code O(1)}.
+ *
+ * <p>Use {@link #asList()} to obtain a view of this list as a {@code List<Integer>} for
+ * interoperability with code expecting boxed values.
+ *
+ * <p>This class is <strong>not thread-safe</strong>. Iterators and spliterators are fail-fast.
+ *
+ * @see ShiftList
+ * @author John Hendrikx
+ */
+public final class IntShiftList extends PrimitiveShiftList {
+  private static final int[] EMPTY_DATA = new int[0];
+
+  private int[] data = EMPTY_DATA;
+
+  /**
+   * Constructs a new instance with no values.
+   */
+  public IntShiftList() {
+  }
+
+  /**
+   * Returns a new list containing the given values in order.
+   *
+   * @param values an array of values, cannot be {@code null}
+   * @return a new list containing the given values, never {@code null}
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public static IntShiftList of(int... values) {
+    IntShiftList list = new IntShiftList();
+
+    for(int value : values) {
+      list.addLastInt(value);
+    }
+
+    return list;
+  }
+
+  /**
+   * Returns the value at the given index.
+   *
+   * @param index an index
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public int getInt(int index) {
+    return data[checkedDataIndex(index)];
+  }
+
+  /**
+   * Replaces the value at the given index.
+   *
+   * @param index an index
+   * @param value a value to store
+   * @return the value previously at the given index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public int setInt(int index, int value) {
+    int dataIndex = checkedDataIndex(index);
+    int oldValue = data[dataIndex];
+
+    data[dataIndex] = value;
+
+    return oldValue;
+  }
+
+  /**
+   * Returns the first value.
+   *
+   * @return the first value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public int getFirstInt() {
+    return data[firstDataIndex()];
+  }
+
+  /**
+   * Returns the last value.
+   *
+   * @return the last value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public int getLastInt() {
+    return data[lastDataIndex()];
+  }
+
+  /**
+   * Appends the given value to the end of this list.
+   *
+   * @param value a value to add
+   */
+  public void addInt(int value) {
+    int dataIndex = insertSlot(size);  // may replace the backing array
+
+    data[dataIndex] = value;
+  }
+
+  /**
+   * Inserts the given value at the given index, shifting the value currently
+   * at that index (if any) and any subsequent values up by one.
+   *
+   * @param index an index at which to insert the value
+   * @param value a value to insert
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public void addInt(int index, int value) {
+    int dataIndex = insertSlot(index);  // may replace the backing array
+
+    data[dataIndex] = value;
+  }
+
+  /**
+   * Inserts the given value at the start of this list.
+   *
+   * @param value a value to add
+   */
+  public void addFirstInt(int value) {
+    int dataIndex = insertSlot(0);  // may replace the backing array
+
+    data[dataIndex] = value;
+  }
+
+  /**
+   * Appends the given value to the end of this list.
+   *
+   * @param value a value to add
+   */
+  public void addLastInt(int value) {
+    int dataIndex = insertSlot(size);  // may replace the backing array
+
+    data[dataIndex] = value;
+  }
+
+  /**
+   * Removes the value at the given index, shifting any subsequent values down by one.
+   *
+   * @param index an index
+   * @return the removed value
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public int removeInt(int index) {
+    int value = data[checkedDataIndex(index)];
+
+    removeSlot(index);
+
+    return value;
+  }
+
+  /**
+   * Removes the first value.
+   *
+   * @return the removed value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public int removeFirstInt() {
+    int value = data[firstDataIndex()];
+
+    removeSlot(0);
+
+    return value;
+  }
+
+  /**
+   * Removes the last value.
+   *
+   * @return the removed value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public int removeLastInt() {
+    int value = data[lastDataIndex()];
+
+    removeSlot(size - 1);
+
+    return value;
+  }
+
+  /**
+   * Returns an array containing all values of this list in order.
+   *
+   * @return an array containing all values of this list, never {@code null}
+   */
+  public int[] toArray() {
+    int[] array = new int[size];
+
+    transferTo((from, to, count) -> System.arraycopy(data, from, array, to, count));
+
+    return array;
+  }
+
+  /**
+   * Returns a fail-fast iterator over the values in this list in order.
+   *
+   * @return an iterator, never {@code null}
+   */
+  public PrimitiveIterator.OfInt iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  /**
+   * Creates a fail-fast {@link Spliterator} over the values in this list, which
+   * reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and
+   * {@link Spliterator#ORDERED}.
+   *
+   * @return a spliterator, never {@code null}
+   */
+  public Spliterator.OfInt spliterator() {
+    return new IntShiftListSpliterator(0, -1, 0);
+  }
+
+  /**
+   * Returns a sequential stream of the values in this list.
+   *
+   * @return a stream, never {@code null}
+   */
+  public IntStream stream() {
+    return StreamSupport.intStream(spliterator(), false);
+  }
+
+  /**
+   * Returns a view of this list as a list of boxed values. The view supports all
+   * operations which do not require storing {@code null}, and changes to the view
+   * are reflected in this list and vice versa.
+   *
+   * @return a view of this list as a {@code List<Integer>}, never {@code null}
+   */
+  public List<Integer> asList() {
+    return new IntView();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+
+    for(int i = 0; i < size; i++) {
+      if(i > 0) {
+        builder.append(", ");
+      }
+
+      builder.append(data[toDataIndex(i)]);
+    }
+
+    return builder.append("]").toString();
+  }
+
+  @Override
+  void move(int from, int to, int count) {
+    System.arraycopy(data, from, data, to, count);
+  }
+
+  @Override
+  void move(int from, int to) {
+    data[to] = data[from];
+  }
+
+  @Override
+  void clear(int from, int count) {
+    Arrays.fill(data, from, from + count, 0);
+  }
+
+  @Override
+  void reallocate(int newLength) {
+    int[] newData = newLength == 0 ? EMPTY_DATA : new int[newLength];
+
+    transferTo((from, to, count) -> System.arraycopy(data, from, newData, to, count));
+
+    this.data = newData;
+  }
+
+  private final class IntShiftListSpliterator extends IndexSpliterator implements Spliterator.OfInt {
+    IntShiftListSpliterator(int index, int fence, int expectedModCount) {
+      super(index, fence, expectedModCount);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      Objects.requireNonNull(action);
+
+      int dataIndex = nextDataIndex();
+
+      if(dataIndex < 0) {
+        return false;
+      }
+
+      action.accept(data[dataIndex]);
+
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      Objects.requireNonNull(action);
+
+      for(int hi = getFence(); index < hi; index++) {
+        action.accept(data[toDataIndex(index)]);
+      }
+
+      checkForComodification();
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+      int lo = index;
+      int mid = split();
+
+      return mid < 0 ? null : new IntShiftListSpliterator(lo, mid, expectedModCount());
+    }
+  }
+
+  private final class IntView extends BoxedView<Integer> {
+
+    @Override
+    public Integer get(int index) {
+      return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+      return setInt(index, element);
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+      addInt(index, element);
+
+      modified();
+    }
+
+    @Override
+    public Integer remove(int index) {
+      int value = removeInt(index);
+
+      modified();
+
+      return value;
+    }
+  }
+}
@@ -0,0 +1,379 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.int4.common.collection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A resizable list of {@code long} values, using the same block rotation layout as
+ * {@link ShiftList}. Values are stored unboxed in a single {@code long[]}, which avoids
+ * the memory overhead of boxing and the indirection when reading values, while
+ * insertions and removals at arbitrary positions move at most {@code O(n / blockSize)}
+ * values between blocks, and insertions and removals at either end are {@code O(1)}.
+ *
+ * <p>Use {@link #asList()} to obtain a view of this list as a {@code List<Long>} for
+ * interoperability with code expecting boxed values.
+ *
+ * <p>This class is <strong>not thread-safe</strong>. Iterators and spliterators are fail-fast.
+ *
+ * @see ShiftList
+ * @author John Hendrikx
+ */
+public final class LongShiftList extends PrimitiveShiftList {
+  private static final long[] EMPTY_DATA = new long[0];
+
+  private long[] data = EMPTY_DATA;
+
+  /**
+   * Constructs a new instance with no values.
+   */
+  public LongShiftList() {
+  }
+
+  /**
+   * Returns a new list containing the given values in order.
+   *
+   * @param values an array of values, cannot be {@code null}
+   * @return a new list containing the given values, never {@code null}
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public static LongShiftList of(long... values) {
+    LongShiftList list = new LongShiftList();
+
+    for(long value : values) {
+      list.addLastLong(value);
+    }
+
+    return list;
+  }
+
+  /**
+   * Returns the value at the given index.
+   *
+   * @param index an index
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long getLong(int index) {
+    return data[checkedDataIndex(index)];
+  }
+
+  /**
+   * Replaces the value at the given index.
+   *
+   * @param index an index
+   * @param value a value to store
+   * @return the value previously at the given index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long setLong(int index, long value) {
+    int dataIndex = checkedDataIndex(index);
+    long oldValue = data[dataIndex];
+
+    data[dataIndex] = value;
+
+    return oldValue;
+  }
+
+  /**
+   * Returns the first value.
+   *
+   * @return the first value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public long getFirstLong() {
+    return data[firstDataIndex()];
+  }
+
+  /**
+   * Returns the last value.
+   *
+   * @return the last value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public long getLastLong() {
+    return data[lastDataIndex()];
+  }
+
+  /**
+   * Appends the given value to the end of this list.
+   *
+   * @param value a value to add
+   */
+  public void addLong(long value) {
+    int dataIndex = insertSlot(size);  // may replace the backing array
+
+    data[dataIndex] = value;
+  }
+
+  /**
+   * Inserts the given value at the given index, shifting the value currently
+   * at that index (if any) and any subsequent values up by one.
+   *
+   * @param index an index at which to insert the value
+   * @param value a value to insert
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public void addLong(int index, long value) {
+    int dataIndex = insertSlot(index);  // may replace the backing array
+
+    data[dataIndex] = value;
+  }
+
+  /**
+   * Inserts the given value at the start of this list.
+   *
+   * @param value a value to add
+   */
+  public void addFirstLong(long value) {
+    int dataIndex = insertSlot(0);  // may replace the backing array
+
+    data[dataIndex] = value;
+  }
+
+  /**
+   * Appends the given value to the end of this list.
+   *
+   * @param value a value to add
+   */
+  public void addLastLong(long value) {
+    int dataIndex = insertSlot(size);  // may replace the backing array
+
+    data[dataIndex] = value;
+  }
+
+  /**
+   * Removes the value at the given index, shifting any subsequent values down by one.
+   *
+   * @param index an index
+   * @return the removed value
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long removeLong(int index) {
+    long value = data[checkedDataIndex(index)];
+
+    removeSlot(index);
+
+    return value;
+  }
+
+  /**
+   * Removes the first value.
+   *
+   * @return the removed value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public long removeFirstLong() {
+    long value = data[firstDataIndex()];
+
+    removeSlot(0);
+
+    return value;
+  }
+
+  /**
+   * Removes the last value.
+   *
+   * @return the removed value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public long removeLastLong() {
+    long value = data[lastDataIndex()];
+
+    removeSlot(size - 1);
+
+    return value;
+  }
+
+  /**
+   * Returns an array containing all values of this list in order.
+   *
+   * @return an array containing all values of this list, never {@code null}
+   */
+  public long[] toArray() {
+    long[] array = new long[size];
+
+    transferTo((from, to, count) -> System.arraycopy(data, from, array, to, count));
+
+    return array;
+  }
+
+  /**
+   * Returns a fail-fast iterator over the values in this list in order.
+   *
+   * @return an iterator, never {@code null}
+   */
+  public PrimitiveIterator.OfLong iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  /**
+   * Creates a fail-fast {@link Spliterator} over the values in this list, which
+   * reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and
+   * {@link Spliterator#ORDERED}.
+   *
+   * @return a spliterator, never {@code null}
+   */
+  public Spliterator.OfLong spliterator() {
+    return new LongShiftListSpliterator(0, -1, 0);
+  }
+
+  /**
+   * Returns a sequential stream of the values in this list.
+   *
+   * @return a stream, never {@code null}
+   */
+  public LongStream stream() {
+    return StreamSupport.longStream(spliterator(), false);
+  }
+
+  /**
+   * Returns a view of this list as a list of boxed values. The view supports all
+   * operations which do not require storing {@code null}, and changes to the view
+   * are reflected in this list and vice versa.
+   *
+   * @return a view of this list as a {@code List<Long>}, never {@code null}
+   */
+  public List<Long> asList() {
+    return new LongView();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+
+    for(int i = 0; i < size; i++) {
+      if(i > 0) {
+        builder.append(", ");
+      }
+
+      builder.append(data[toDataIndex(i)]);
+    }
+
+    return builder.append("]").toString();
+  }
+
+  @Override
+  void move(int from, int to, int count) {
+    System.arraycopy(data, from, data, to, count);
+  }
+
+  @Override
+  void move(int from, int to) {
+    data[to] = data[from];
+  }
+
+  @Override
+  void clear(int from, int count) {
+    Arrays.fill(data, from, from + count, 0L);
+  }
+
+  @Override
+  void reallocate(int newLength) {
+    long[] newData = newLength == 0 ? EMPTY_DATA : new long[newLength];
+
+    transferTo((from, to, count) -> System.arraycopy(data, from, newData, to, count));
+
+    this.data = newData;
+  }
+
+  private final class LongShiftListSpliterator extends IndexSpliterator implements Spliterator.OfLong {
+    LongShiftListSpliterator(int index, int fence, int expectedModCount) {
+      super(index, fence, expectedModCount);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      Objects.requireNonNull(action);
+
+      int dataIndex = nextDataIndex();
+
+      if(dataIndex < 0) {
+        return false;
+      }
+
+      action.accept(data[dataIndex]);
+
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      Objects.requireNonNull(action);
+
+      for(int hi = getFence(); index < hi; index++) {
+        action.accept(data[toDataIndex(index)]);
+      }
+
+      checkForComodification();
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      int lo = index;
+      int mid = split();
+
+      return mid < 0 ? null : new LongShiftListSpliterator(lo, mid, expectedModCount());
+    }
+  }
+
+  private final class LongView extends BoxedView<Long> {
+
+    @Override
+    public Long get(int index) {
+      return getLong(index);
+    }
+
+    @Override
+    public Long set(int index, Long element) {
+      return setLong(index, element);
+    }
+
+    @Override
+    public void add(int index, Long element) {
+      addLong(index, element);
+
+      modified();
+    }
+
+    @Override
+    public Long remove(int index) {
+      long value = removeLong(index);
+
+      modified();
+
+      return value;
+    }
+  }
+}
@@ -0,0 +1,658 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.int4.common.collection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A resizable list of {@code long} values stored in a memory-mapped file, using the same
+ * block rotation layout as {@link ShiftList}. The file contains a small header describing
+ * the layout, the values in their slots, and the rotation of each block. Opening an existing
+ * file only maps it and reads the rotations, so large lists are available almost immediately,
+ * and the operating system only pages in the parts of the file which are accessed.
+ *
+ * <p>Insertions and removals modify the mapped file in place, with the same costs as for
+ * {@link LongShiftList}. When the list grows or shrinks, a new file is written next to the
+ * existing file with the values in order, which then atomically replaces the existing file.
+ *
+ * <h2>Durability</h2>
+ * The values and the layout are written to the file when {@link #force()} or {@link #close()}
+ * is called, and each time the list grows or shrinks. Modifications made after the last of
+ * these may only be partially present in the file should the process or system fail, in which
+ * case the list can no longer be reliably opened; call {@link #force()} to create a checkpoint
+ * after a batch of modifications.
+ *
+ * <h2>Limitations</h2>
+ * <ul>
+ *   <li>The capacity is limited to that of {@link ShiftList}; the values are mapped in parts of {@code 2^27} values each.</li>
+ *   <li>Only one instance should have a file open at a time.</li>
+ * </ul>
+ *
+ * <p>This class is <strong>not thread-safe</strong>. Iterators and spliterators are fail-fast.
+ *
+ * @see LongShiftList
+ * @author John Hendrikx
+ */
+public final class MappedLongShiftList extends PrimitiveShiftList implements AutoCloseable {
+  private static final int CHUNK_SHIFT = 27;  // 2^27 values, or 1 GiB, per mapping
+  private static final LongBuffer[] EMPTY_DATA = {};
+  private static final long MAGIC = 0x5348494654_4C5354L;  // "SHIFTLST"
+  private static final int VERSION = 1;
+
+  /*
+   * File layout, all little endian:
+   *
+   *   long    magic
+   *   int     version
+   *   int     size
+   *   int     length (0 or a power of 2)
+   *   int     offset
+   *   long    reserved
+   *   long[]  slots (length entries)
+   *   int[]   rotations (one per block)
+   */
+
+  private static final int HEADER_SIZE = 32;
+  private static final int SIZE_OFFSET = 12;
+  private static final int LENGTH_OFFSET = 16;
+  private static final int OFFSET_OFFSET = 20;
+
+  private final Path path;
+  private final int chunkShift;
+  private final int chunkMask;
+
+  private MappedByteBuffer[] mappings;  // the header, the slots in one or more parts, and the rotations
+  private LongBuffer[] data = EMPTY_DATA;  // the slots of each part
+  private boolean closed;
+
+  private MappedLongShiftList(Path path, int chunkShift) {
+    this.path = path;
+    this.chunkShift = chunkShift;
+    this.chunkMask = (1 << chunkShift) - 1;
+  }
+
+  /**
+   * Opens the list stored in the given file, creating a new empty list if the
+   * file does not exist.
+   *
+   * @param path a {@link Path} to a file, cannot be {@code null}
+   * @return a list backed by the given file, never {@code null}
+   * @throws IOException if the file could not be read or created, or is not a valid list file
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public static MappedLongShiftList open(Path path) throws IOException {
+    return open(path, CHUNK_SHIFT);
+  }
+
+  /**
+   * Opens the list stored in the given file, mapping its values in parts of at
+   * most {@code 2^chunkShift} values. The file format does not depend on the size
+   * of the parts.
+   *
+   * @param path a {@link Path} to a file, cannot be {@code null}
+   * @param chunkShift the maximum number of values per mapped part as a power of 2
+   * @return a list backed by the given file, never {@code null}
+   * @throws IOException if the file could not be read or created, or is not a valid list file
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  static MappedLongShiftList open(Path path, int chunkShift) throws IOException {
+    MappedLongShiftList list = new MappedLongShiftList(Objects.requireNonNull(path, "path"), chunkShift);
+
+    if(Files.exists(path)) {
+      list.load();
+    }
+    else {
+      try {
+        list.reallocate(0);
+      }
+      catch(UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+
+    return list;
+  }
+
+  /**
+   * Returns the path of the file backing this list.
+   *
+   * @return the path of the file backing this list, never {@code null}
+   */
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Returns the value at the given index.
+   *
+   * @param index an index
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long getLong(int index) {
+    return load(checkedDataIndex(index));
+  }
+
+  /**
+   * Replaces the value at the given index.
+   *
+   * @param index an index
+   * @param value a value to store
+   * @return the value previously at the given index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long setLong(int index, long value) {
+    int dataIndex = checkedDataIndex(index);
+    long oldValue = load(dataIndex);
+
+    store(dataIndex, value);
+
+    return oldValue;
+  }
+
+  /**
+   * Returns the first value.
+   *
+   * @return the first value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public long getFirstLong() {
+    return load(firstDataIndex());
+  }
+
+  /**
+   * Returns the last value.
+   *
+   * @return the last value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public long getLastLong() {
+    return load(lastDataIndex());
+  }
+
+  /**
+   * Appends the given value to the end of this list.
+   *
+   * @param value a value to add
+   * @throws IllegalStateException if this list was closed
+   * @throws UncheckedIOException if the file could not be grown
+   */
+  public void addLong(long value) {
+    addLong(size, value);
+  }
+
+  /**
+   * Inserts the given value at the given index, shifting the value currently
+   * at that index (if any) and any subsequent values up by one.
+   *
+   * @param index an index at which to insert the value
+   * @param value a value to insert
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @throws IllegalStateException if this list was closed
+   * @throws UncheckedIOException if the file could not be grown
+   */
+  public void addLong(int index, long value) {
+    ensureOpen();
+
+    int dataIndex = insertSlot(index);  // may replace the file
+
+    store(dataIndex, value);
+  }
+
+  /**
+   * Inserts the given value at the start of this list.
+   *
+   * @param value a value to add
+   * @throws IllegalStateException if this list was closed
+   * @throws UncheckedIOException if the file could not be grown
+   */
+  public void addFirstLong(long value) {
+    addLong(0, value);
+  }
+
+  /**
+   * Appends the given value to the end of this list.
+   *
+   * @param value a value to add
+   * @throws IllegalStateException if this list was closed
+   * @throws UncheckedIOException if the file could not be grown
+   */
+  public void addLastLong(long value) {
+    addLong(size, value);
+  }
+
+  /**
+   * Removes the value at the given index, shifting any subsequent values down by one.
+   *
+   * @param index an index
+   * @return the removed value
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @throws UncheckedIOException if the file could not be shrunk
+   */
+  public long removeLong(int index) {
+    long value = load(checkedDataIndex(index));
+
+    removeSlot(index);
+
+    return value;
+  }
+
+  /**
+   * Removes the first value.
+   *
+   * @return the removed value
+   * @throws NoSuchElementException if this list is empty
+   * @throws UncheckedIOException if the file could not be shrunk
+   */
+  public long removeFirstLong() {
+    long value = load(firstDataIndex());
+
+    removeSlot(0);
+
+    return value;
+  }
+
+  /**
+   * Removes the last value.
+   *
+   * @return the removed value
+   * @throws NoSuchElementException if this list is empty
+   * @throws UncheckedIOException if the file could not be shrunk
+   */
+  public long removeLastLong() {
+    long value = load(lastDataIndex());
+
+    removeSlot(size - 1);
+
+    return value;
+  }
+
+  /**
+   * Returns an array containing all values of this list in order.
+   *
+   * @return an array containing all values of this list, never {@code null}
+   */
+  public long[] toArray() {
+    long[] array = new long[size];
+
+    transferTo((from, to, count) -> {
+      while(count > 0) {
+        int part = Math.min(count, chunkMask + 1 - (from & chunkMask));
+
+        data[from >>> chunkShift].get(from & chunkMask, array, to, part);
+
+        from += part;
+        to += part;
+        count -= part;
+      }
+    });
+
+    return array;
+  }
+
+  /**
+   * Returns a fail-fast iterator over the values in this list in order.
+   *
+   * @return an iterator, never {@code null}
+   */
+  public PrimitiveIterator.OfLong iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  /**
+   * Creates a fail-fast {@link Spliterator} over the values in this list, which
+   * reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and
+   * {@link Spliterator#ORDERED}.
+   *
+   * @return a spliterator, never {@code null}
+   */
+  public Spliterator.OfLong spliterator() {
+    return new MappedSpliterator(0, -1, 0);
+  }
+
+  /**
+   * Returns a sequential stream of the values in this list.
+   *
+   * @return a stream, never {@code null}
+   */
+  public LongStream stream() {
+    return StreamSupport.longStream(spliterator(), false);
+  }
+
+  /**
+   * Writes the layout of this list to its file, and forces all changes to the file
+   * to be written to the storage device containing it. When this method returns,
+   * the file contains a consistent copy of this list which can be opened with
+   * {@link #open(Path)}.
+   *
+   * @throws IllegalStateException if this list was closed
+   */
+  public void force() {
+    ensureOpen();
+
+    MappedByteBuffer rotationsPart = mappings[mappings.length - 1];
+    int[] rotations = layoutRotations();
+
+    writeHeader(mappings[0], size, layoutLength(), layoutOffset());
+
+    for(int i = 0; i < rotations.length; i++) {
+      rotationsPart.putInt(i * Integer.BYTES, rotations[i]);
+    }
+
+    force(mappings);
+  }
+
+  /**
+   * Creates a checkpoint with {@link #force()} and closes this list. The file
+   * remains mapped until the list is no longer reachable. Any further attempt
+   * to modify the list throws an {@link IllegalStateException}. Closing a list
+   * which is already closed has no effect.
+   */
+  @Override
+  public void close() {
+    if(!closed) {
+      force();
+      discardLayout();
+
+      this.data = EMPTY_DATA;
+      this.mappings = null;
+      this.closed = true;
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+
+    for(int i = 0; i < size; i++) {
+      if(i > 0) {
+        builder.append(", ");
+      }
+
+      builder.append(load(toDataIndex(i)));
+    }
+
+    return builder.append("]").toString();
+  }
+
+  @Override
+  void move(int from, int to, int count) {
+    int chunk = from >>> chunkShift;
+
+    if((from + count - 1) >>> chunkShift == chunk && to >>> chunkShift == chunk && (to + count - 1) >>> chunkShift == chunk) {
+      LongBuffer buffer = data[chunk];
+
+      buffer.put(to & chunkMask, buffer, from & chunkMask, count);  // behaves as if copied to an intermediate buffer first
+    }
+    else if(to > from) {
+      for(int i = count - 1; i >= 0; i--) {
+        move(from + i, to + i);
+      }
+    }
+    else {
+      for(int i = 0; i < count; i++) {
+        move(from + i, to + i);
+      }
+    }
+  }
+
+  @Override
+  void move(int from, int to) {
+    store(to, load(from));
+  }
+
+  @Override
+  void clear(int from, int count) {
+    for(int i = from; i < from + count; i++) {
+      store(i, 0L);
+    }
+  }
+
+  /**
+   * Writes a new file with the values in order, and with a header describing the
+   * layout expected after reallocating, then replaces the existing file with it.
+   * The new file is deleted again if it could not replace the existing file.
+   */
+  @Override
+  void reallocate(int newLength) {
+    Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+    boolean replaced = false;
+
+    try(FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedByteBuffer[] newMappings = map(channel, newLength);
+      LongBuffer[] newData = slots(newMappings);
+
+      transferTo((from, to, count) -> {
+        while(count > 0) {
+          int part = Math.min(count, chunkMask + 1 - Math.max(from & chunkMask, to & chunkMask));
+
+          newData[to >>> chunkShift].put(to & chunkMask, data[from >>> chunkShift], from & chunkMask, part);
+
+          from += part;
+          to += part;
+          count -= part;
+        }
+      });
+
+      writeHeader(newMappings[0], size, newLength, 0);  // all rotations are zero
+      force(newMappings);
+
+      Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+      replaced = true;
+
+      this.mappings = newMappings;
+      this.data = newData;
+    }
+    catch(IOException e) {
+      throw new UncheckedIOException("Unable to resize " + path, e);
+    }
+    finally {
+      if(!replaced) {
+        deleteQuietly(temporaryPath);
+      }
+    }
+  }
+
+  private void load() throws IOException {
+    try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      long fileSize = channel.size();
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+      if(fileSize < HEADER_SIZE || channel.read(header, 0) != HEADER_SIZE) {
+        throw new IOException("Not a list file: " + path);
+      }
+
+      if(header.getLong(0) != MAGIC || header.getInt(8) != VERSION) {
+        throw new IOException("Not a list file or unsupported version: " + path);
+      }
+
+      int size = header.getInt(SIZE_OFFSET);
+      int length = header.getInt(LENGTH_OFFSET);
+      int offset = header.getInt(OFFSET_OFFSET);
+      int blocks = blocks(length);
+
+      if(length < 0 || fileSize != HEADER_SIZE + (long)length * Long.BYTES + (long)blocks * Integer.BYTES) {
+        throw new IOException("Corrupt list file, unexpected length: " + path);
+      }
+
+      MappedByteBuffer[] mappings = map(channel, length);
+      MappedByteBuffer rotationsPart = mappings[mappings.length - 1];
+      int[] rotations = new int[blocks];
+
+      for(int i = 0; i < blocks; i++) {
+        rotations[i] = rotationsPart.getInt(i * Integer.BYTES);
+      }
+
+      try {
+        restoreLayout(size, length, offset, rotations);
+      }
+      catch(IllegalArgumentException e) {
+        throw new IOException("Corrupt list file: " + path, e);
+      }
+
+      this.mappings = mappings;
+      this.data = slots(mappings);
+    }
+  }
+
+  /**
+   * Maps the header, the slots and the rotations of a file with the given length.
+   * The slots are mapped in parts of at most {@code 2^chunkShift} values, as a
+   * single mapping cannot exceed {@code 2^31 - 1} bytes.
+   */
+  private MappedByteBuffer[] map(FileChannel channel, int length) throws IOException {
+    int chunkLength = Math.min(length, 1 << chunkShift);
+    int chunks = length == 0 ? 0 : length / chunkLength;
+    MappedByteBuffer[] mappings = new MappedByteBuffer[chunks + 2];
+
+    mappings[0] = map(channel, 0, HEADER_SIZE);
+
+    for(int i = 0; i < chunks; i++) {
+      mappings[i + 1] = map(channel, HEADER_SIZE + (long)i * chunkLength * Long.BYTES, chunkLength * Long.BYTES);
+    }
+
+    mappings[chunks + 1] = map(channel, HEADER_SIZE + (long)length * Long.BYTES, blocks(length) * Integer.BYTES);
+
+    return mappings;
+  }
+
+  private static MappedByteBuffer map(FileChannel channel, long position, int size) throws IOException {
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+    return buffer;
+  }
+
+  private static LongBuffer[] slots(MappedByteBuffer[] mappings) {
+    LongBuffer[] data = new LongBuffer[mappings.length - 2];
+
+    for(int i = 0; i < data.length; i++) {
+      data[i] = mappings[i + 1].asLongBuffer();
+    }
+
+    return data;
+  }
+
+  private static int blocks(int length) {
+    return length <= 0 || Integer.bitCount(length) != 1 ? 0 : length >> ShiftList.shiftFor(length);
+  }
+
+  private static void force(MappedByteBuffer[] mappings) {
+    for(MappedByteBuffer mapping : mappings) {
+      mapping.force();
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    }
+    catch(IOException e) {
+      // ignored, the failure which caused the deletion is more relevant
+    }
+  }
+
+  private long load(int dataIndex) {
+    return data[dataIndex >>> chunkShift].get(dataIndex & chunkMask);
+  }
+
+  private void store(int dataIndex, long value) {
+    data[dataIndex >>> chunkShift].put(dataIndex & chunkMask, value);
+  }
+
+  private static void writeHeader(ByteBuffer file, int size, int length, int offset) {
+    file.putLong(0, MAGIC);
+    file.putInt(8, VERSION);
+    file.putInt(SIZE_OFFSET, size);
+    file.putInt(LENGTH_OFFSET, length);
+    file.putInt(OFFSET_OFFSET, offset);
+  }
+
+  private void ensureOpen() {
+    if(closed) {
+      throw new IllegalStateException("List was closed");
+    }
+  }
+
+  private final class MappedSpliterator extends IndexSpliterator implements Spliterator.OfLong {
+    MappedSpliterator(int index, int fence, int expectedModCount) {
+      super(index, fence, expectedModCount);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      Objects.requireNonNull(action);
+
+      int dataIndex = nextDataIndex();
+
+      if(dataIndex < 0) {
+        return false;
+      }
+
+      action.accept(load(dataIndex));
+
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      Objects.requireNonNull(action);
+
+      for(int hi = getFence(); index < hi; index++) {
+        action.accept(load(toDataIndex(index)));
+      }
+
+      checkForComodification();
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      int lo = index;
+      int mid = split();
+
+      return mid < 0 ? null : new MappedSpliterator(lo, mid, expectedModCount());
+    }
+  }
+}
@@ -0,0 +1,430 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.int4.common.collection;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A resizable list of {@code long} values stored outside the Java heap, using the same
+ * block rotation layout as {@link ShiftList}. The values are kept in direct buffers, so
+ * they do not contribute to the heap size or to the work done by the garbage collector
+ * when marking, which makes this list suitable for very large numbers of values. Only
+ * the rotation of each block, one {@code int} per block, is kept on the heap.
+ *
+ * <p>Insertions and removals have the same costs as for {@link LongShiftList}. When the
+ * list grows or shrinks, the values are copied to new buffers with bulk copies of at
+ * most two runs per block. As a direct buffer is limited to {@code 2^31 - 1} bytes, large
+ * lists spread their values over several buffers of {@code 2^27} values each, which gives
+ * this list the same maximum capacity as {@link ShiftList}.
+ *
+ * <p>Closing the list with {@link #close()} removes all values and makes the list unusable.
+ * Like all direct buffers, the buffers holding the values are released when they are garbage
+ * collected, and not when the list is closed or cleared; closing only ensures that this list
+ * no longer references them.
+ *
+ * <p>This class is <strong>not thread-safe</strong>. Iterators and spliterators are fail-fast.
+ *
+ * @see LongShiftList
+ * @author John Hendrikx
+ */
+public final class OffHeapLongShiftList extends PrimitiveShiftList implements AutoCloseable {
+  private static final int CHUNK_SHIFT = 27;  // 2^27 values, or 1 GiB, per buffer
+  private static final LongBuffer[] EMPTY_DATA = {};
+
+  private final int chunkShift;
+  private final int chunkMask;
+
+  private LongBuffer[] data = EMPTY_DATA;  // buffers of 2^chunkShift values, or a single smaller buffer
+  private boolean closed;
+
+  /**
+   * Constructs a new instance with no values.
+   */
+  public OffHeapLongShiftList() {
+    this(CHUNK_SHIFT);
+  }
+
+  /**
+   * Constructs a new instance with no values which spreads its values over
+   * buffers of at most {@code 2^chunkShift} values.
+   *
+   * @param chunkShift the maximum number of values per buffer as a power of 2
+   */
+  OffHeapLongShiftList(int chunkShift) {
+    this.chunkShift = chunkShift;
+    this.chunkMask = (1 << chunkShift) - 1;
+  }
+
+  /**
+   * Returns the value at the given index.
+   *
+   * @param index an index
+   * @return the value at the given index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long getLong(int index) {
+    return load(checkedDataIndex(index));
+  }
+
+  /**
+   * Replaces the value at the given index.
+   *
+   * @param index an index
+   * @param value a value to store
+   * @return the value previously at the given index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long setLong(int index, long value) {
+    int dataIndex = checkedDataIndex(index);
+    long oldValue = load(dataIndex);
+
+    store(dataIndex, value);
+
+    return oldValue;
+  }
+
+  /**
+   * Returns the first value.
+   *
+   * @return the first value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public long getFirstLong() {
+    return load(firstDataIndex());
+  }
+
+  /**
+   * Returns the last value.
+   *
+   * @return the last value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public long getLastLong() {
+    return load(lastDataIndex());
+  }
+
+  /**
+   * Appends the given value to the end of this list.
+   *
+   * @param value a value to add
+   * @throws IllegalStateException if this list was closed
+   */
+  public void addLong(long value) {
+    addLong(size, value);
+  }
+
+  /**
+   * Inserts the given value at the given index, shifting the value currently
+   * at that index (if any) and any subsequent values up by one.
+   *
+   * @param index an index at which to insert the value
+   * @param value a value to insert
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @throws IllegalStateException if this list was closed
+   */
+  public void addLong(int index, long value) {
+    ensureOpen();
+
+    int dataIndex = insertSlot(index);  // may replace the buffers
+
+    store(dataIndex, value);
+  }
+
+  /**
+   * Inserts the given value at the start of this list.
+   *
+   * @param value a value to add
+   * @throws IllegalStateException if this list was closed
+   */
+  public void addFirstLong(long value) {
+    addLong(0, value);
+  }
+
+  /**
+   * Appends the given value to the end of this list.
+   *
+   * @param value a value to add
+   * @throws IllegalStateException if this list was closed
+   */
+  public void addLastLong(long value) {
+    addLong(size, value);
+  }
+
+  /**
+   * Removes the value at the given index, shifting any subsequent values down by one.
+   *
+   * @param index an index
+   * @return the removed value
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long removeLong(int index) {
+    long value = load(checkedDataIndex(index));
+
+    removeSlot(index);
+
+    return value;
+  }
+
+  /**
+   * Removes the first value.
+   *
+   * @return the removed value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public long removeFirstLong() {
+    long value = load(firstDataIndex());
+
+    removeSlot(0);
+
+    return value;
+  }
+
+  /**
+   * Removes the last value.
+   *
+   * @return the removed value
+   * @throws NoSuchElementException if this list is empty
+   */
+  public long removeLastLong() {
+    long value = load(lastDataIndex());
+
+    removeSlot(size - 1);
+
+    return value;
+  }
+
+  /**
+   * Returns an array containing all values of this list in order.
+   *
+   * @return an array containing all values of this list, never {@code null}
+   */
+  public long[] toArray() {
+    long[] array = new long[size];
+
+    transferTo((from, to, count) -> {
+      while(count > 0) {
+        int part = Math.min(count, chunkMask + 1 - (from & chunkMask));
+
+        data[from >>> chunkShift].get(from & chunkMask, array, to, part);
+
+        from += part;
+        to += part;
+        count -= part;
+      }
+    });
+
+    return array;
+  }
+
+  /**
+   * Returns a fail-fast iterator over the values in this list in order.
+   *
+   * @return an iterator, never {@code null}
+   */
+  public PrimitiveIterator.OfLong iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  /**
+   * Creates a fail-fast {@link Spliterator} over the values in this list, which
+   * reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and
+   * {@link Spliterator#ORDERED}.
+   *
+   * @return a spliterator, never {@code null}
+   */
+  public Spliterator.OfLong spliterator() {
+    return new OffHeapSpliterator(0, -1, 0);
+  }
+
+  /**
+   * Returns a sequential stream of the values in this list.
+   *
+   * @return a stream, never {@code null}
+   */
+  public LongStream stream() {
+    return StreamSupport.longStream(spliterator(), false);
+  }
+
+  /**
+   * Removes all values and drops the buffers holding them. Any further attempt
+   * to add values throws an {@link IllegalStateException}. Closing a list which
+   * is already closed has no effect.
+   *
+   * <p>The memory of the buffers is not released immediately, but when the buffers
+   * are garbage collected.
+   */
+  @Override
+  public void close() {
+    clear();
+
+    closed = true;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("[");
+
+    for(int i = 0; i < size; i++) {
+      if(i > 0) {
+        builder.append(", ");
+      }
+
+      builder.append(load(toDataIndex(i)));
+    }
+
+    return builder.append("]").toString();
+  }
+
+  @Override
+  void move(int from, int to, int count) {
+    int chunk = from >>> chunkShift;
+
+    if((from + count - 1) >>> chunkShift == chunk && to >>> chunkShift == chunk && (to + count - 1) >>> chunkShift == chunk) {
+      LongBuffer buffer = data[chunk];
+
+      buffer.put(to & chunkMask, buffer, from & chunkMask, count);  // behaves as if copied to an intermediate buffer first
+    }
+    else if(to > from) {
+      for(int i = count - 1; i >= 0; i--) {
+        move(from + i, to + i);
+      }
+    }
+    else {
+      for(int i = 0; i < count; i++) {
+        move(from + i, to + i);
+      }
+    }
+  }
+
+  @Override
+  void move(int from, int to) {
+    store(to, load(from));
+  }
+
+  @Override
+  void clear(int from, int count) {
+    for(int i = from; i < from + count; i++) {
+      store(i, 0L);
+    }
+  }
+
+  @Override
+  void reallocate(int newLength) {
+    LongBuffer[] newData = allocate(newLength);
+
+    transferTo((from, to, count) -> {
+      while(count > 0) {
+        int part = Math.min(count, chunkMask + 1 - Math.max(from & chunkMask, to & chunkMask));
+
+        newData[to >>> chunkShift].put(to & chunkMask, data[from >>> chunkShift], from & chunkMask, part);
+
+        from += part;
+        to += part;
+        count -= part;
+      }
+    });
+
+    this.data = newData;
+  }
+
+  private LongBuffer[] allocate(int length) {
+    if(length == 0) {
+      return EMPTY_DATA;
+    }
+
+    int chunkLength = Math.min(length, 1 << chunkShift);
+    LongBuffer[] buffers = new LongBuffer[length / chunkLength];
+
+    for(int i = 0; i < buffers.length; i++) {
+      buffers[i] = ByteBuffer.allocateDirect(chunkLength * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+    }
+
+    return buffers;
+  }
+
+  private long load(int dataIndex) {
+    return data[dataIndex >>> chunkShift].get(dataIndex & chunkMask);
+  }
+
+  private void store(int dataIndex, long value) {
+    data[dataIndex >>> chunkShift].put(dataIndex & chunkMask, value);
+  }
+
+  private void ensureOpen() {
+    if(closed) {
+      throw new IllegalStateException("List was closed");
+    }
+  }
+
+  private final class OffHeapSpliterator extends IndexSpliterator implements Spliterator.OfLong {
+    OffHeapSpliterator(int index, int fence, int expectedModCount) {
+      super(index, fence, expectedModCount);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      Objects.requireNonNull(action);
+
+      int dataIndex = nextDataIndex();
+
+      if(dataIndex < 0) {
+        return false;
+      }
+
+      action.accept(load(dataIndex));
+
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      Objects.requireNonNull(action);
+
+      for(int hi = getFence(); index < hi; index++) {
+        action.accept(load(toDataIndex(index)));
+      }
+
+      checkForComodification();
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      int lo = index;
+      int mid = split();
+
+      return mid < 0 ? null : new OffHeapSpliterator(lo, mid, expectedModCount());
+    }
+  }
+}
@@ -0,0 +1,893 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.int4.common.collection;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+/**
+ * Base class for lists of primitive values, and other lists managing their own backing store,
+ * which use the same layout as {@link ShiftList}: a power-of-two sized backing store divided
+ * into blocks, with a rotation per block and a global offset. This class maintains the layout and performs all structural modifications,
+ * while subclasses own the backing store and only need to provide a way to move, clear and
+ * reallocate its slots. Subclasses read and write values at the store index returned by
+ * {@link #toDataIndex(int)}, {@link #insertSlot(int)} and {@link #checkedDataIndex(int)}.
+ *
+ * <p>As with {@code ShiftList}, one block of the backing store always remains free, so the
+ * first and last values never share a block once the list is full, and the store is halved
+ * when the list falls below a quarter of its capacity.
+ */
+abstract sealed class PrimitiveShiftList permits IntShiftList, LongShiftList, DoubleShiftList, OffHeapLongShiftList, MappedLongShiftList, SegmentedShiftList.Segments {
+  private static final int[] EMPTY_ROTATIONS = new int[0];
+  private static final int MIN_SIZE = 16;
+
+  private int[] rotations = EMPTY_ROTATIONS;
+  private int length;  // length of the backing store, 0 or a power of 2
+  private int offset;  // global rotation offset, ranges from 0 to length - 1
+  private int shift;   // block size as a power of 2
+
+  int size;
+  int modCount;
+
+  /**
+   * Moves values within the backing store. The ranges may overlap, in which case
+   * the result must be as if the source values were first copied to a temporary
+   * location.
+   *
+   * @param from the store index of the first value to move
+   * @param to the store index to move the first value to
+   * @param count the number of values to move
+   */
+  abstract void move(int from, int to, int count);
+
+  /**
+   * Moves a single value within the backing store. This is called once for each
+   * block involved in an insertion or removal, and so should avoid the overhead
+   * of {@link #move(int, int, int)}.
+   *
+   * @param from the store index of the value to move
+   * @param to the store index to move the value to
+   */
+  abstract void move(int from, int to);
+
+  /**
+   * Resets the given range of the backing store to zero.
+   *
+   * @param from the store index of the first slot to clear
+   * @param count the number of slots to clear
+   */
+  abstract void clear(int from, int count);
+
+  /**
+   * Replaces the backing store with a new, zeroed, store of the given length, and
+   * copies the values to it by calling {@link #transferTo(Transfer)} before the
+   * old store is released.
+   *
+   * @param newLength the length of the new backing store, 0 or a power of 2
+   */
+  abstract void reallocate(int newLength);
+
+  /**
+   * Doubles the backing store without moving any values between slots, for stores
+   * which can do so cheaply. The blocks before the given block move up by the current
+   * number of blocks, all other blocks keep their place, and the remaining blocks of
+   * the extended store are zeroed. The default implementation does nothing and returns
+   * {@code false}, in which case the store is reallocated instead.
+   *
+   * @param newLength the length of the extended store, twice the current length
+   * @param splitBlock the block containing the first value, which is the first block to keep its place
+   * @return {@code true} if the store was extended, otherwise {@code false}
+   */
+  boolean extend(int newLength, int splitBlock) {
+    return false;
+  }
+
+  /**
+   * Copies a range of values from the current backing store to a new backing store.
+   */
+  interface Transfer {
+
+    /**
+     * Copies values from the current backing store to a new backing store.
+     *
+     * @param from the store index of the first value in the current store
+     * @param to the store index of the first value in the new store
+     * @param count the number of values to copy
+     */
+    void copy(int from, int to, int count);
+  }
+
+  /**
+   * Calls the given transfer for each contiguous run of values in order. The
+   * values are copied to the start of the new store in list order, which is
+   * where the layout expects them after {@link #reallocate(int)} completes.
+   *
+   * @param transfer a {@link Transfer}, cannot be {@code null}
+   */
+  final void transferTo(Transfer transfer) {
+    final int BLOCK_SIZE = 1 << shift;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    for(int index = 0; index < size;) {
+      int dataIndex = toDataIndex(index);
+      int position = toPosition(index);
+      int count = Math.min(size - index, BLOCK_SIZE - Math.max(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+
+      transfer.copy(dataIndex, index, count);
+
+      index += count;
+    }
+  }
+
+  /**
+   * Returns the number of values in this list.
+   *
+   * @return the number of values in this list
+   */
+  public final int size() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if this list contains no values.
+   *
+   * @return {@code true} if this list contains no values
+   */
+  public final boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes all values from this list, and releases its backing store.
+   */
+  public final void clear() {
+    this.size = 0;
+
+    reallocate(0);
+    discardLayout();
+  }
+
+  /**
+   * Resets the layout to that of an empty list without a backing store, without
+   * calling {@link #reallocate(int)}.
+   */
+  final void discardLayout() {
+    modCount++;
+
+    this.rotations = EMPTY_ROTATIONS;
+    this.length = 0;
+    this.offset = 0;
+    this.shift = 0;
+    this.size = 0;
+  }
+
+  /**
+   * Replaces the layout with the given layout, which was previously obtained
+   * from the layout accessors, for use with a backing store which already
+   * contains the values in that layout.
+   *
+   * @param size the number of values
+   * @param length the length of the backing store, 0 or a power of 2
+   * @param offset the global offset
+   * @param rotations the rotation of each block, cannot be {@code null}
+   * @throws IllegalArgumentException if the layout is invalid
+   */
+  final void restoreLayout(int size, int length, int offset, int[] rotations) {
+    if(length == 0 ? size != 0 || offset != 0 || rotations.length != 0
+        : Integer.bitCount(length) != 1 || length > 1 << 30 || rotations.length != length >> ShiftList.shiftFor(length)) {
+      throw new IllegalArgumentException("Invalid layout, length: " + length + ", blocks: " + rotations.length);
+    }
+
+    int shift = length == 0 ? 0 : ShiftList.shiftFor(length);
+
+    if(size < 0 || (length > 0 && size > length - (1 << shift)) || offset < 0 || (length > 0 && offset >= length)) {
+      throw new IllegalArgumentException("Invalid layout, size: " + size + ", offset: " + offset + ", length: " + length);
+    }
+
+    for(int rotation : rotations) {
+      if(rotation < 0 || rotation >= 1 << shift) {
+        throw new IllegalArgumentException("Invalid layout, rotation: " + rotation);
+      }
+    }
+
+    modCount++;
+
+    this.rotations = length == 0 ? EMPTY_ROTATIONS : rotations;
+    this.length = length;
+    this.offset = offset;
+    this.shift = shift;
+    this.size = size;
+  }
+
+  final int layoutLength() {
+    return length;
+  }
+
+  final int layoutOffset() {
+    return offset;
+  }
+
+  final int[] layoutRotations() {
+    return rotations;
+  }
+
+  /**
+   * Returns the index in the backing store of the value at the given index. The
+   * index is not checked.
+   *
+   * @param index an index, must be valid
+   * @return an index in the backing store
+   */
+  final int toDataIndex(int index) {
+    final int position = (index + offset) & (length - 1);
+    final int blockMask = (1 << shift) - 1;
+
+    return (position & ~blockMask) | ((rotations[position >> shift] + position) & blockMask);
+  }
+
+  /**
+   * Returns the index in the backing store of the value at the given index.
+   *
+   * @param index an index
+   * @return an index in the backing store
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  final int checkedDataIndex(int index) {
+    Objects.checkIndex(index, size);
+
+    return toDataIndex(index);
+  }
+
+  /**
+   * Returns the index in the backing store of the first value.
+   *
+   * @return an index in the backing store
+   * @throws NoSuchElementException if this list is empty
+   */
+  final int firstDataIndex() {
+    if(size == 0) {
+      throw new NoSuchElementException();
+    }
+
+    return toDataIndex(0);
+  }
+
+  /**
+   * Returns the index in the backing store of the last value.
+   *
+   * @return an index in the backing store
+   * @throws NoSuchElementException if this list is empty
+   */
+  final int lastDataIndex() {
+    if(size == 0) {
+      throw new NoSuchElementException();
+    }
+
+    return toDataIndex(size - 1);
+  }
+
+  private int toPosition(int index) {
+    return (index + offset) & (length - 1);
+  }
+
+  /**
+   * Makes room for a value at the given index, shifting the values at or after
+   * the index, or the values before it, whichever are fewer.
+   *
+   * @param index an index at which a value is to be inserted
+   * @return the index in the backing store where the inserted value should be stored
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  final int insertSlot(int index) {
+    Objects.checkIndex(index, size + 1);
+
+    modCount++;
+
+    if(size >= length - (1 << shift)) {
+      increaseCapacity(ShiftList.capacityFor(size + 1));
+    }
+
+    final int[] rotations = this.rotations;
+    final int BLOCK_SHIFT = shift;
+    final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+    final int BLOCKS_MASK = (length >> BLOCK_SHIFT) - 1;
+
+    if(index >= size >> 1) {
+
+      /*
+       * Values from the index onwards move one position up. Each block after
+       * the block containing the index is rotated by one, receiving the last
+       * value of the block before it in its first slot:
+       */
+
+      int position = toPosition(index);
+      int endPosition = toPosition(size);  // a free slot
+      int block = position >> shift;
+      int lastBlock = endPosition >> shift;
+
+      if(block == lastBlock) {
+        moveSlots(block, position & BLOCK_MASK, (position & BLOCK_MASK) + 1, (endPosition - position) & BLOCK_MASK);
+      }
+      else {
+        int writeRotation = (rotations[lastBlock] - 1) & BLOCK_MASK;
+        int gapIndex = (lastBlock << BLOCK_SHIFT) | writeRotation;  // first slot after rotating
+
+        for(int b = lastBlock; b != block;) {
+          int previous = (b - 1) & BLOCKS_MASK;
+          int readRotation = (rotations[previous] - 1) & BLOCK_MASK;
+          int readIndex = (previous << BLOCK_SHIFT) | readRotation;  // last slot
+
+          rotations[b] = writeRotation;
+
+          move(readIndex, gapIndex);
+
+          b = previous;
+          writeRotation = readRotation;
+          gapIndex = readIndex;
+        }
+
+        /*
+         * The last slot of the block containing the index is now free. Either the
+         * values after the index move up into it, or the block is rotated so the
+         * free slot becomes its first slot and the values before the index move
+         * down, whichever moves fewer values:
+         */
+
+        int slot = position & BLOCK_MASK;
+
+        if(slot < BLOCK_MASK - slot) {
+          rotations[block] = writeRotation;
+
+          moveSlots(block, 1, 0, slot);
+        }
+        else {
+          moveSlots(block, slot, slot + 1, BLOCK_MASK - slot);
+        }
+      }
+
+      size++;
+
+      return slotIndex(block, position & BLOCK_MASK);
+    }
+
+    /*
+     * Values before the index move one position down, into the free slot before
+     * the first value. Each block before the block containing the index is rotated
+     * by one, receiving the first value of the block after it in its last slot:
+     */
+
+    int position = (toPosition(index) - 1) & (length - 1);
+    int firstPosition = (offset - 1) & (length - 1);  // a free slot
+    int block = position >> shift;
+    int firstBlock = firstPosition >> shift;
+
+    if(block == firstBlock) {
+      moveSlots(block, (firstPosition & BLOCK_MASK) + 1, firstPosition & BLOCK_MASK, (position - firstPosition) & BLOCK_MASK);
+    }
+    else {
+      int writeRotation = rotations[firstBlock];
+      int gapIndex = (firstBlock << BLOCK_SHIFT) | writeRotation;  // last slot after rotating
+
+      for(int b = firstBlock; b != block;) {
+        int next = (b + 1) & BLOCKS_MASK;
+        int readRotation = rotations[next];
+        int readIndex = (next << BLOCK_SHIFT) | readRotation;  // first slot
+
+        rotations[b] = (writeRotation + 1) & BLOCK_MASK;
+
+        move(readIndex, gapIndex);
+
+        b = next;
+        writeRotation = readRotation;
+        gapIndex = readIndex;
+      }
+
+      /*
+       * The first slot of the block containing the index is now free. Either the
+       * values before the index move down into it, or the block is rotated so the
+       * free slot becomes its last slot and the values after the index move up,
+       * whichever moves fewer values:
+       */
+
+      int slot = position & BLOCK_MASK;
+
+      if(slot <= BLOCK_MASK - slot) {
+        moveSlots(block, 1, 0, slot);
+      }
+      else {
+        rotations[block] = (writeRotation + 1) & BLOCK_MASK;
+
+        moveSlots(block, slot, slot + 1, BLOCK_MASK - slot);
+      }
+    }
+
+    offset = firstPosition;
+    size++;
+
+    return slotIndex(block, position & BLOCK_MASK);
+  }
+
+  /**
+   * Removes the value at the given index, shifting the values after the index,
+   * or the values before it, whichever are fewer. The vacated slot is cleared.
+   *
+   * @param index an index of a value to remove, must be valid
+   */
+  final void removeSlot(int index) {
+    modCount++;
+
+    final int[] rotations = this.rotations;
+    final int BLOCK_SHIFT = shift;
+    final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+    final int BLOCKS_MASK = (length >> BLOCK_SHIFT) - 1;
+
+    if(index >= size >> 1) {
+
+      /*
+       * Values after the index move one position down. Each block after the block
+       * containing the index gives up its first value to the last slot of the block
+       * before it, and is then rotated by one:
+       */
+
+      int position = toPosition(index);
+      int lastPosition = toPosition(size - 1);
+      int block = position >> shift;
+      int lastBlock = lastPosition >> shift;
+
+      if(block == lastBlock) {
+        moveSlots(block, (position & BLOCK_MASK) + 1, position & BLOCK_MASK, (lastPosition - position) & BLOCK_MASK);
+      }
+      else {
+
+        /*
+         * Frees the last slot of the block containing the index, either by moving
+         * the values after the index down, or by moving the values before it up
+         * and rotating the block so the freed first slot becomes its last slot,
+         * whichever moves fewer values:
+         */
+
+        int slot = position & BLOCK_MASK;
+
+        if(slot < BLOCK_MASK - slot) {
+          moveSlots(block, 0, 1, slot);
+
+          rotations[block] = (rotations[block] + 1) & BLOCK_MASK;
+        }
+        else {
+          moveSlots(block, slot + 1, slot, BLOCK_MASK - slot);
+        }
+
+        int gapIndex = (block << BLOCK_SHIFT) | ((rotations[block] - 1) & BLOCK_MASK);  // last slot
+
+        for(int b = block; b != lastBlock;) {
+          int next = (b + 1) & BLOCKS_MASK;
+          int readRotation = rotations[next];
+          int readIndex = (next << BLOCK_SHIFT) | readRotation;  // first slot, last slot after rotating
+
+          move(readIndex, gapIndex);
+
+          rotations[next] = (readRotation + 1) & BLOCK_MASK;
+          b = next;
+          gapIndex = readIndex;
+        }
+      }
+
+      clear(slotIndex(lastBlock, block == lastBlock ? lastPosition & BLOCK_MASK : BLOCK_MASK), 1);
+    }
+    else {
+
+      /*
+       * Values before the index move one position up. Each block before the block
+       * containing the index gives up its last value to the first slot of the block
+       * after it, and is then rotated by one:
+       */
+
+      int position = toPosition(index);
+      int firstPosition = offset;
+      int block = position >> shift;
+      int firstBlock = firstPosition >> shift;
+
+      if(block == firstBlock) {
+        moveSlots(block, firstPosition & BLOCK_MASK, (firstPosition & BLOCK_MASK) + 1, (position - firstPosition) & BLOCK_MASK);
+      }
+      else {
+
+        /*
+         * Frees the first slot of the block containing the index, either by moving
+         * the values before the index up, or by moving the values after it down
+         * and rotating the block so the freed last slot becomes its first slot,
+         * whichever moves fewer values:
+         */
+
+        int slot = position & BLOCK_MASK;
+
+        if(slot <= BLOCK_MASK - slot) {
+          moveSlots(block, 0, 1, slot);
+        }
+        else {
+          moveSlots(block, slot + 1, slot, BLOCK_MASK - slot);
+
+          rotations[block] = (rotations[block] - 1) & BLOCK_MASK;
+        }
+
+        int gapIndex = (block << BLOCK_SHIFT) | rotations[block];  // first slot
+
+        for(int b = block; b != firstBlock;) {
+          int previous = (b - 1) & BLOCKS_MASK;
+          int readRotation = (rotations[previous] - 1) & BLOCK_MASK;
+          int readIndex = (previous << BLOCK_SHIFT) | readRotation;  // last slot, first slot after rotating
+
+          move(readIndex, gapIndex);
+
+          rotations[previous] = readRotation;
+          b = previous;
+          gapIndex = readIndex;
+        }
+      }
+
+      clear(slotIndex(firstBlock, block == firstBlock ? firstPosition & BLOCK_MASK : 0), 1);
+
+      offset = (offset + 1) & (length - 1);
+    }
+
+    size--;
+
+    if(size < length >> 2 && length > MIN_SIZE) {
+      int newLength = length >> 1;
+
+      while(size < newLength >> 2 && newLength > MIN_SIZE) {
+        newLength >>= 1;
+      }
+
+      relayout(newLength);
+    }
+  }
+
+  /**
+   * Returns the index in the backing store of the given slot of a block.
+   */
+  private int slotIndex(int block, int slot) {
+    final int blockMask = (1 << shift) - 1;
+
+    return (block << shift) | ((rotations[block] + slot) & blockMask);
+  }
+
+  /**
+   * Moves a number of consecutive slots within a block, taking the rotation of
+   * the block into account. Each of the source and target ranges can wrap around
+   * the end of the block, and so the values are moved in at most three parts,
+   * starting at the end which avoids overwriting values not moved yet.
+   */
+  private void moveSlots(int block, int fromSlot, int toSlot, int count) {
+    final int BLOCK_MASK = (1 << shift) - 1;
+    final int baseIndex = block << shift;
+    final int rotation = rotations[block];
+
+    if(toSlot > fromSlot) {
+      while(count > 0) {
+        int from = (rotation + fromSlot + count - 1) & BLOCK_MASK;  // last value to move
+        int to = (rotation + toSlot + count - 1) & BLOCK_MASK;
+        int part = Math.min(count, Math.min(from, to) + 1);
+
+        move(baseIndex + from - part + 1, baseIndex + to - part + 1, part);
+
+        count -= part;
+      }
+    }
+    else {
+      while(count > 0) {
+        int from = (rotation + fromSlot) & BLOCK_MASK;
+        int to = (rotation + toSlot) & BLOCK_MASK;
+        int part = Math.min(count, BLOCK_MASK + 1 - Math.max(from, to));
+
+        move(baseIndex + from, baseIndex + to, part);
+
+        fromSlot += part;
+        toSlot += part;
+        count -= part;
+      }
+    }
+  }
+
+  /**
+   * Increases the capacity to the given length. When the block size does not change,
+   * and the store supports it, the store is extended by moving whole blocks. As the list
+   * is full, the free slots (exactly one block's worth) are all before the first value,
+   * and so the block containing the first value never contains any of the last values.
+   * All new space can therefore be put between the last and the first block by moving
+   * the blocks before the first block up, leaving the offset unchanged:
+   *
+   *    [L.FF] -> [..FFL...]
+   */
+  private void increaseCapacity(int newLength) {
+    int blocks = length >> shift;
+    int splitBlock = offset >> shift;
+
+    if(length == 0 || newLength != length << 1 || ShiftList.shiftFor(newLength) != shift || !extend(newLength, splitBlock)) {
+      relayout(newLength);
+
+      return;
+    }
+
+    int[] newRotations = new int[newLength >> shift];
+
+    System.arraycopy(rotations, splitBlock, newRotations, splitBlock, blocks - splitBlock);
+    System.arraycopy(rotations, 0, newRotations, blocks, splitBlock);
+
+    this.rotations = newRotations;
+    this.length = newLength;
+  }
+
+  /**
+   * Recreates the backing store with the given length, storing all values in
+   * order from the start of the store with all rotations reset. The block size
+   * is set to the preferred block size for the new length.
+   */
+  private void relayout(int newLength) {
+    reallocate(newLength);
+
+    this.shift = ShiftList.shiftFor(newLength);
+    this.rotations = new int[newLength >> shift];
+    this.length = newLength;
+    this.offset = 0;
+  }
+
+  /**
+   * Throws a {@link ConcurrentModificationException} if this list was structurally
+   * modified since the given modification count was obtained.
+   *
+   * @param expectedModCount the expected modification count
+   */
+  final void checkForComodification(int expectedModCount) {
+    if(modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Base class for the fail-fast spliterators of the subclasses, which visit the
+   * values in order by index. Subclasses read the value at the store index returned
+   * by {@link #nextDataIndex()}, or at {@link #toDataIndex(int)} for each index up to
+   * {@link #getFence()} when traversing the remaining values in bulk.
+   */
+  abstract class IndexSpliterator {
+    int index;  // index of the next value to visit
+    private int fence;  // index after the last value to visit; -1 until first use
+    private int expectedModCount;  // initialized when fence is set
+
+    IndexSpliterator(int index, int fence, int expectedModCount) {
+      this.index = index;
+      this.fence = fence;
+      this.expectedModCount = expectedModCount;
+    }
+
+    final int getFence() {  // initialize fence to size on first use
+      int hi = fence;
+
+      if(hi < 0) {
+        expectedModCount = modCount;
+        hi = fence = size;
+      }
+
+      return hi;
+    }
+
+    final int expectedModCount() {
+      getFence();
+
+      return expectedModCount;
+    }
+
+    /**
+     * Returns the store index of the next value to visit and advances past it,
+     * or returns -1 if there are no more values to visit.
+     *
+     * @return a store index, or -1 if there are no more values
+     * @throws ConcurrentModificationException if the list was structurally modified
+     */
+    final int nextDataIndex() {
+      if(index >= getFence()) {
+        return -1;
+      }
+
+      checkForComodification();
+
+      return toDataIndex(index++);
+    }
+
+    /**
+     * Splits off the first half of the remaining values, advancing this spliterator
+     * past them.
+     *
+     * @return the index after the last value of the first half, or -1 if the remaining values are too few to split
+     */
+    final int split() {
+      int hi = getFence();
+      int lo = index;
+      int mid = (lo + hi) >>> 1;
+
+      if(mid <= lo) {
+        return -1;
+      }
+
+      index = mid;
+
+      return mid;
+    }
+
+    final void checkForComodification() {
+      PrimitiveShiftList.this.checkForComodification(expectedModCount);
+    }
+
+    public final long estimateSize() {
+      return getFence() - index;
+    }
+
+    public final int characteristics() {
+      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+  }
+
+  /**
+   * Base class for the views of the subclasses as lists of boxed values. Its
+   * iterators are fail-fast against all structural modifications of the list,
+   * including those not made through the view.
+   *
+   * @param <T> the boxed type of the values
+   */
+  abstract class BoxedView<T> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * Records a structural modification made through this view.
+     */
+    final void modified() {
+      modCount = PrimitiveShiftList.this.modCount;
+    }
+
+    @Override
+    public final int size() {
+      return size;
+    }
+
+    @Override
+    public final void clear() {
+      PrimitiveShiftList.this.clear();
+
+      modified();
+    }
+
+    @Override
+    public final Iterator<T> iterator() {
+      return new BoxedItr(0);
+    }
+
+    @Override
+    public final ListIterator<T> listIterator(int index) {
+      Objects.checkIndex(index, size + 1);
+
+      return new BoxedItr(index);
+    }
+
+    private final class BoxedItr implements ListIterator<T> {
+      private int cursor;  // index of next value to return
+      private int lastReturned = -1;  // index of last value returned, or -1 if none
+      private int expectedModCount = PrimitiveShiftList.this.modCount;
+
+      BoxedItr(int index) {
+        this.cursor = index;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return cursor < size;
+      }
+
+      @Override
+      public boolean hasPrevious() {
+        return cursor > 0;
+      }
+
+      @Override
+      public int nextIndex() {
+        return cursor;
+      }
+
+      @Override
+      public int previousIndex() {
+        return cursor - 1;
+      }
+
+      @Override
+      public T next() {
+        checkForComodification(expectedModCount);
+
+        if(cursor >= size) {
+          throw new NoSuchElementException();
+        }
+
+        lastReturned = cursor++;
+
+        return get(lastReturned);
+      }
+
+      @Override
+      public T previous() {
+        checkForComodification(expectedModCount);
+
+        if(cursor <= 0) {
+          throw new NoSuchElementException();
+        }
+
+        lastReturned = --cursor;
+
+        return get(lastReturned);
+      }
+
+      @Override
+      public void set(T e) {
+        if(lastReturned < 0) {
+          throw new IllegalStateException();
+        }
+
+        checkForComodification(expectedModCount);
+
+        BoxedView.this.set(lastReturned, e);
+      }
+
+      @Override
+      public void add(T e) {
+        checkForComodification(expectedModCount);
+
+        BoxedView.this.add(cursor++, e);
+
+        lastReturned = -1;
+        expectedModCount = PrimitiveShiftList.this.modCount;
+      }
+
+      @Override
+      public void remove() {
+        if(lastReturned < 0) {
+          throw new IllegalStateException();
+        }
+
+        checkForComodification(expectedModCount);
+
+        BoxedView.this.remove(lastReturned);
+
+        cursor = lastReturned;
+        lastReturned = -1;
+        expectedModCount = PrimitiveShiftList.this.modCount;
+      }
+    }
+  }
+}
@@ -0,0 +1,281 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.int4.common.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A resizable list with the same block rotation layout as {@link ShiftList}, but which stores
+ * each block in its own array, referenced from a block table, instead of storing all elements
+ * in a single array.
+ *
+ * <p>Even the largest block is only 65536 elements, so unlike a {@code ShiftList} of a similar
+ * size, this list never needs a single array large enough to be allocated as a humongous object
+ * by region based garbage collectors. Blocks are allocated when the first element is stored in
+ * them, and when the list doubles its capacity without changing its block size, it only
+ * allocates a larger block table and moves block references, without copying any elements or
+ * needing the old and new storage at the same time. When the block size changes, or the list
+ * shrinks, the elements are copied to new blocks, and blocks which are not needed are not
+ * allocated.
+ *
+ * <p>{@link #snapshot()} creates a copy in time proportional to the number of blocks, by
+ * sharing the blocks between both lists until either list modifies them.
+ *
+ * <p>Random access requires one more load than for {@code ShiftList} (the block table entry),
+ * and has otherwise the same costs. Insertions and removals have the same costs as for
+ * {@code ShiftList}.
+ *
+ * <p>This list allows {@code null} elements. It is fail-fast, and supports all optional
+ * operations of the {@link java.util.List} interface.
+ *
+ * <p>This class is <strong>not thread-safe</strong>.
+ *
+ * <h2>Limitations</h2>
+ * <ul>
+ *   <li>As for {@code ShiftList}, the capacity is limited to {@code 2^30 - 65536} elements, as
+ *       the layout is addressed with {@code int} indices; see {@link BigShiftList} for larger
+ *       sequences.</li>
+ * </ul>
+ *
+ * @param <E> the type of elements in this list
+ * @see ShiftList
+ * @author John Hendrikx
+ */
+public final class SegmentedShiftList<E> extends AbstractList<E> implements RandomAccess {
+  private final Segments segments = new Segments();
+
+  /**
+   * Constructs a new empty list.
+   */
+  public SegmentedShiftList() {
+  }
+
+  /**
+   * Constructs a new list containing the elements of the given collection, in
+   * the order they are returned by its iterator.
+   *
+   * @param collection a {@link Collection}, cannot be {@code null}
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public SegmentedShiftList(Collection<? extends E> collection) {
+    addAll(collection);
+  }
+
+  /**
+   * Returns a copy of this list which shares the arrays holding the elements with
+   * this list. Taking a snapshot only copies the block table and the rotation of each
+   * block, and so takes time proportional to the number of blocks, not to the size of
+   * the list. Afterwards, this list and the copy each copy a shared block the first time
+   * they modify it. Modifications of either list are not visible in the other.
+   *
+   * @return a copy of this list, never {@code null}
+   */
+  public SegmentedShiftList<E> snapshot() {
+    SegmentedShiftList<E> copy = new SegmentedShiftList<>();
+
+    segments.shareWith(copy.segments);
+
+    return copy;
+  }
+
+  @Override
+  public int size() {
+    return segments.size();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    return (E)segments.get(segments.checkedDataIndex(index));
+  }
+
+  @Override
+  public E set(int index, E element) {
+    int dataIndex = segments.checkedDataIndex(index);
+    @SuppressWarnings("unchecked")
+    E oldElement = (E)segments.get(dataIndex);
+
+    segments.put(dataIndex, element);
+
+    return oldElement;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    int dataIndex = segments.insertSlot(index);
+
+    segments.put(dataIndex, element);
+    modCount++;
+  }
+
+  @Override
+  public E remove(int index) {
+    @SuppressWarnings("unchecked")
+    E element = (E)segments.get(segments.checkedDataIndex(index));
+
+    segments.removeSlot(index);
+    modCount++;
+
+    return element;
+  }
+
+  @Override
+  public void clear() {
+    segments.clear();
+    modCount++;
+  }
+
+  /**
+   * Holds the elements of a {@link SegmentedShiftList} in one array per block.
+   * All moves within the store are within a single block, except for single
+   * element moves. Blocks can be shared with other stores, in which case they
+   * are copied before they are first modified.
+   */
+  static final class Segments extends PrimitiveShiftList {
+    private static final Object[][] EMPTY_BLOCKS = new Object[0][];
+    private static final boolean[] EMPTY_SHARED = new boolean[0];
+
+    private Object[][] blocks = EMPTY_BLOCKS;
+    private boolean[] shared = EMPTY_SHARED;  // blocks which may be referenced by other stores
+    private int shift;  // block size of the store as a power of 2
+
+    Object get(int dataIndex) {
+      return blocks[dataIndex >>> shift][dataIndex & ((1 << shift) - 1)];
+    }
+
+    void put(int dataIndex, Object value) {
+      writableBlock(dataIndex >>> shift)[dataIndex & ((1 << shift) - 1)] = value;
+    }
+
+    /**
+     * Makes the given store share all blocks and the layout of this store. Both
+     * stores copy a shared block before modifying it.
+     *
+     * @param target a {@link Segments} to share this store with, cannot be {@code null}
+     */
+    void shareWith(Segments target) {
+      Arrays.fill(shared, true);
+
+      target.blocks = blocks.clone();
+      target.shared = shared.clone();
+      target.shift = shift;
+      target.restoreLayout(size, layoutLength(), layoutOffset(), layoutRotations().clone());
+    }
+
+    @Override
+    void move(int from, int to, int count) {
+      if(blocks[from >>> shift] != null) {  // an unallocated block only contains free slots
+        Object[] block = writableBlock(from >>> shift);
+        int blockMask = (1 << shift) - 1;
+
+        System.arraycopy(block, from & blockMask, block, to & blockMask, count);
+      }
+    }
+
+    @Override
+    void move(int from, int to) {
+      Object[] source = blocks[from >>> shift];
+
+      if(source != null) {  // an unallocated block only contains free slots
+        put(to, source[from & ((1 << shift) - 1)]);
+      }
+      else if(blocks[to >>> shift] != null) {
+        put(to, null);
+      }
+    }
+
+    @Override
+    void clear(int from, int count) {
+      if(blocks[from >>> shift] != null) {
+        int start = from & ((1 << shift) - 1);
+
+        Arrays.fill(writableBlock(from >>> shift), start, start + count, null);
+      }
+    }
+
+    @Override
+    void reallocate(int newLength) {
+      Segments newSegments = new Segments();
+
+      newSegments.shift = newLength == 0 ? 0 : ShiftList.shiftFor(newLength);
+      newSegments.blocks = newLength == 0 ? EMPTY_BLOCKS : new Object[newLength >> newSegments.shift][];
+      newSegments.shared = new boolean[newSegments.blocks.length];
+
+      transferTo((from, to, count) -> {
+        int blockMask = (1 << newSegments.shift) - 1;
+
+        for(int part; count > 0; from += part, to += part, count -= part) {
+          part = Math.min(count, blockMask + 1 - (to & blockMask));  // runs can cross blocks of the new store
+
+          System.arraycopy(blocks[from >>> shift], from & ((1 << shift) - 1), newSegments.writableBlock(to >>> newSegments.shift), to & blockMask, part);
+        }
+      });
+
+      this.blocks = newSegments.blocks;
+      this.shared = newSegments.shared;
+      this.shift = newSegments.shift;
+    }
+
+    @Override
+    boolean extend(int newLength, int splitBlock) {
+      int count = blocks.length;
+      Object[][] newBlocks = new Object[newLength >> shift][];
+      boolean[] newShared = new boolean[newBlocks.length];
+
+      System.arraycopy(blocks, splitBlock, newBlocks, splitBlock, count - splitBlock);
+      System.arraycopy(blocks, 0, newBlocks, count, splitBlock);
+      System.arraycopy(shared, splitBlock, newShared, splitBlock, count - splitBlock);
+      System.arraycopy(shared, 0, newShared, count, splitBlock);
+
+      this.blocks = newBlocks;
+      this.shared = newShared;
+
+      return true;
+    }
+
+    /**
+     * Returns the array of the given block for modification, allocating
+     * it if needed, or copying it if it is shared.
+     */
+    private Object[] writableBlock(int block) {
+      Object[] array = blocks[block];
+
+      if(array == null) {
+        array = new Object[1 << shift];
+        blocks[block] = array;
+      }
+      else if(shared[block]) {
+        array = array.clone();
+        blocks[block] = array;
+        shared[block] = false;
+      }
+
+      return array;
+    }
+  }
+}
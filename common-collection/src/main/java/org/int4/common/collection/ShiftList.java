@@ -24,11 +24,19 @@
 
 package org.int4.common.collection;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Array;
 import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
@@ -37,11 +45,13 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.RandomAccess;
 import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A resizable, array-backed list implementation optimized for fast insertions and deletions at arbitrary positions.
@@ -62,16 +72,29 @@ import java.util.stream.Stream;
  *
  * <p>Random access operations ({@code get}, {@code set}) are constant-time and extremely fast, with a low constant factor.
  * This makes {@code ShiftList} particularly well-suited for applications requiring efficient indexed access.
+ * Lists which are only read after being built can use {@link #normalize()} to make random access as fast as
+ * for an {@code ArrayList}.
+ *
+ * <p>Lists created with {@link #bounded(int, OverflowPolicy)} hold at most a fixed number of elements, and either
+ * reject elements or evict other elements once full, making them suitable as ring buffers.
  *
  * <p>The list grows dynamically as elements are added. The overhead to store {@code n} elements is, on average,
  * {@code n * 1.5}. The growth strategy ensures amortized {@code O(1)} cost for appends and insertions at either end.
+ * The backing array is halved when the list falls below a quarter of its capacity, which keeps removals amortized
+ * {@code O(1)} as well. Use {@link #trimToSize()} to release unused capacity immediately.
  *
  * <p>{@code ShiftList} supports all optional operations of the {@link java.util.List} and {@link java.util.Deque}
  * interfaces. It is fail-fast, allows {@code null} elements, and provides constant-time {@code clear()} and {@code size()}.
  * Sublist views are supported via {@link java.util.AbstractList}.
  *
+ * <p>{@code ShiftList} is {@link Serializable}. Its serialized form consists only of its capacity settings,
+ * the size and the elements in order, independent of the internal layout; a deserialized list starts out
+ * unrotated with a capacity fitting its size. A {@link #reversed() reversed} view is serialized as a
+ * {@code ShiftList} holding its elements in reverse order.
+ *
  * <p>This class is <strong>not thread-safe</strong>. External synchronization must be used if accessed concurrently
- * by multiple threads. Consider wrapping the list with {@link Collections#synchronizedList}.
+ * by multiple threads. Consider wrapping the list with {@link Collections#synchronizedList}, or use a
+ * {@link ConcurrentShiftList} when reads greatly outnumber modifications.
  *
  * <p>{@code ShiftList} can be used as a drop-in replacement for {@code ArrayList} or {@code LinkedList} in scenarios where
  * frequent (mid-list) insertions or deletions are performance-sensitive.
@@ -81,15 +104,6 @@ import java.util.stream.Stream;
  *   <li>Minimum capacity is fixed at 16 elements.</li>
  *   <li>Maximum capacity is limited to {@code 2^30 - 65536} elements, due to internal design constraints preventing
  *       both the first and last elements from residing in the same block.</li>
- *   <li>Automatic shrinking of the backing array is not supported, except via {@link #clear()}, which resets the structure.</li>
- * </ul>
- *
- * <h2>Planned Enhancements</h2>
- * <ul>
- *   <li>Optimized iterator for improved traversal performance.</li>
- *   <li>Optimized bulk insertions and removals.</li>
- *   <li>Automatic shrinking of the backing array when appropriate.</li>
- *   <li>Serialization support.</li>
  * </ul>
  *
  * @param <E> the type of elements in this list
@@ -100,7 +114,10 @@ import java.util.stream.Stream;
  * @see java.util.LinkedList
  * @author John Hendrikx
  */
-public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, RandomAccess, Cloneable {
+public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, RandomAccess, Cloneable, Serializable {
+  @Serial
+  private static final long serialVersionUID = 1L;
+
   private static final Object[] EMPTY_DATA = new Object[0];
   private static final int[] EMPTY_ROTATIONS = new int[0];
 
@@ -125,14 +142,47 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
     15, 15, 16, 16, 16, 16, 16, 16
   };
 
+  /**
+   * The number of elements above which {@link #sort(Comparator)} sorts in parallel. Can be
+   * configured with the system property {@code org.int4.common.collection.ShiftList.parallelSortThreshold}.
+   */
+  private static final int PARALLEL_SORT_THRESHOLD = Integer.getInteger(ShiftList.class.getName() + ".parallelSortThreshold", 1 << 16);
+
   private static final int MIN_SIZE = 16;  // Minimum is set at 4 blocks of 4 elements each
+  private static final int MAX_CAPACITY = (1 << 30) - (1 << 16);  // Largest array size minus one block of the largest block size
+
+  /*
+   * Only the capacity settings are serialized by default; the elements are
+   * written in order by writeObject, without any of the layout state:
+   */
 
-  private E[] data;
-  private int[] rotations;
+  private transient E[] data;
+  private transient int[] rotations;
+
+  private transient int size;
+  private transient int offset;  // global rotation offset, ranges from 0 to data.length - 1
+  private transient int shift;   // block size as a power of 2, ranges from 2 to 16 (4 to 65336 bytes)
+  private int minimumLength = MIN_SIZE;  // backing array length to allocate initially, and below which it is not shrunk automatically
+  private boolean incrementalGrowth;  // whether deque operations grow the backing array a few blocks at a time
+  private transient boolean normalized;  // whether elements are stored at their index, set by normalize until the next structural modification
+  private transient AtomicInteger owners;  // number of lists sharing data and rotations after cloning, null when not shared
+  private int maximumSize = Integer.MAX_VALUE;  // maximum number of elements of a bounded list, the overflow policy applies when it is reached
+  private transient OverflowPolicy overflowPolicy;  // null when the list is not bounded, serialized after the elements otherwise
+  private transient Consumer<? super E> evictionListener;  // null when evicted elements are not reported
+
+  /*
+   * State of an incremental growth in progress. Blocks of the new backing
+   * array which still need their elements copied from the old array have
+   * a negative rotation. Old positions map to the same positions in the new
+   * array, except for positions before the block which contained the first
+   * element when growing started; these are moved by the old array's length:
+   */
 
-  private int size;
-  private int offset;  // global rotation offset, ranges from 0 to data.length - 1
-  private int shift;   // block size as a power of 2, ranges from 2 to 16 (4 to 65336 bytes)
+  private transient E[] oldData;  // null when no growth is in progress
+  private transient int[] oldRotations;
+  private transient int oldShift;
+  private transient int oldFirstBlockStart;  // position of the block containing the first element when growth started
+  private transient int migrationCursor;  // blocks below this index have all been migrated
 
   /**
    * Constructs a new instance containing the elements of the given collection
@@ -145,7 +195,7 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
     int size = collection.size();
 
     if(size == 0) {
-      clear();
+      reset();
     }
     else {
       int allocationSize = Math.max(MIN_SIZE, Integer.highestOneBit(size - 1) << 1);
@@ -167,7 +217,106 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
    * Constructs a new instance with no elements.
    */
   public ShiftList() {
-    clear();
+    reset();
+  }
+
+  /**
+   * Constructs a new instance with no elements, and with room for at least the
+   * given number of elements. The capacity of the list will not shrink automatically
+   * below this initial capacity.
+   *
+   * @param initialCapacity the initial capacity of the list, cannot be negative
+   * @throws IllegalArgumentException if the initial capacity is negative
+   * @throws OutOfMemoryError if the initial capacity exceeds the maximum capacity
+   */
+  public ShiftList(int initialCapacity) {
+    if(initialCapacity < 0) {
+      throw new IllegalArgumentException("initialCapacity cannot be negative: " + initialCapacity);
+    }
+
+    reset();
+
+    if(initialCapacity > 0) {
+      this.minimumLength = capacityFor(initialCapacity);
+
+      relayout(minimumLength);
+    }
+  }
+
+  /**
+   * Creates a new, empty list which grows its capacity incrementally. When operations
+   * at either end of the list ({@link #addFirst(Object)}, {@link #addLast(Object)},
+   * {@link #removeFirst()}, {@link #removeLast()} and operations based on these) require
+   * the backing array to grow, the elements are not all copied at once. Instead, each
+   * subsequent such operation copies at most two blocks to the new array, bounding the
+   * worst case cost of a single operation. Reads, including iteration, are served from
+   * whichever array holds the element at the time. Modifications affecting many blocks,
+   * such as insertions or removals away from the ends and bulk operations, complete the
+   * growth first.
+   *
+   * <p>This trades a small overhead on reads while a growth is in progress, and a slight
+   * increase in the time growth takes in total, for the absence of long pauses when a large
+   * list grows, making it suitable for latency sensitive applications.
+   *
+   * @param <E> the type of elements in the list
+   * @return a new, empty list which grows incrementally, never {@code null}
+   */
+  public static <E> ShiftList<E> withIncrementalGrowth() {
+    ShiftList<E> list = new ShiftList<>();
+
+    list.incrementalGrowth = true;
+
+    return list;
+  }
+
+  /**
+   * Creates a new, empty list which holds at most the given number of elements.
+   * The backing array is allocated immediately, and does not need to grow until
+   * the list is cleared or trimmed. Adding an element to a full list either rejects
+   * the element or evicts another element, depending on the given policy.
+   *
+   * @param <E> the type of elements in the list
+   * @param capacity the maximum number of elements, must be positive
+   * @param policy an {@link OverflowPolicy} which determines what happens when an element is added to a full list, cannot be {@code null}
+   * @return a new, empty bounded list, never {@code null}
+   * @throws NullPointerException if any argument is {@code null}
+   * @throws IllegalArgumentException if the capacity is not positive
+   * @throws OutOfMemoryError if the capacity exceeds the maximum capacity
+   */
+  public static <E> ShiftList<E> bounded(int capacity, OverflowPolicy policy) {
+    if(capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+
+    ShiftList<E> list = new ShiftList<>(capacity);
+
+    list.maximumSize = capacity;
+    list.overflowPolicy = Objects.requireNonNull(policy, "policy");
+
+    return list;
+  }
+
+  /**
+   * Creates a new, empty list which holds at most the given number of elements, and
+   * which reports each element it evicts to the given listener. The listener is called
+   * after the list has been modified. It is not serialized with the list.
+   *
+   * @param <E> the type of elements in the list
+   * @param capacity the maximum number of elements, must be positive
+   * @param policy an {@link OverflowPolicy} which determines what happens when an element is added to a full list, cannot be {@code null}
+   * @param evictionListener a {@link Consumer} which is called with each evicted element, cannot be {@code null}
+   * @return a new, empty bounded list, never {@code null}
+   * @throws NullPointerException if any argument is {@code null}
+   * @throws IllegalArgumentException if the capacity is not positive
+   * @throws OutOfMemoryError if the capacity exceeds the maximum capacity
+   * @see #bounded(int, OverflowPolicy)
+   */
+  public static <E> ShiftList<E> bounded(int capacity, OverflowPolicy policy, Consumer<? super E> evictionListener) {
+    ShiftList<E> list = bounded(capacity, policy);
+
+    list.evictionListener = Objects.requireNonNull(evictionListener, "evictionListener");
+
+    return list;
   }
 
   @Override
@@ -179,9 +328,18 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
   public E get(int index) {
     Objects.checkIndex(index, size);
 
+    if(normalized) {
+      return data[index];
+    }
+
     int blockMask = (1 << shift) - 1;
     int mask = data.length - 1;
     int position = (index + offset) & mask;
+
+    if(oldData != null) {
+      return elementAtWhileGrowing(position);
+    }
+
     int block = position >> shift;
     int baseIndex = position & ~blockMask;
 
@@ -206,7 +364,16 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
 
     Objects.checkIndex(index, size + 1);
 
+    if(size >= maximumSize) {
+      addToFullList(index, element);
+
+      return;
+    }
+
     modCount++;
+    normalized = false;
+    unshare();
+    completeGrowth();
 
     if(shouldIncreaseCapacity()) {
       doubleCapacity();  // modifies data, rotations, shift, offset
@@ -370,27 +537,314 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
 
   @Override
   public void addFirst(E e) {
+    if(size >= maximumSize) {
+      addToFullList(0, e);
+
+      return;
+    }
+
     modCount++;
+    normalized = false;
+    unshare();
 
     if(shouldIncreaseCapacity()) {
-      doubleCapacity();
+      if(incrementalGrowth) {
+        startGrowth();
+      }
+      else {
+        doubleCapacity();
+      }
     }
 
     moveOffsetLeft();
+
+    if(oldData != null) {
+      advanceGrowth(toPosition(0));
+    }
+
     noShiftAdd(0, e);
   }
 
   @Override
   public void addLast(E e) {
+    if(size >= maximumSize) {
+      addToFullList(size, e);
+
+      return;
+    }
+
     modCount++;
+    normalized = false;
+    unshare();
 
     if(shouldIncreaseCapacity()) {
-      doubleCapacity();
+      if(incrementalGrowth) {
+        startGrowth();
+      }
+      else {
+        doubleCapacity();
+      }
+    }
+
+    if(oldData != null) {
+      advanceGrowth(toPosition(size));
     }
 
     noShiftAdd(size, e);
   }
 
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    return addAll(size, c);
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    Objects.checkIndex(index, size + 1);
+
+    final Object[] elements = c.toArray();
+    final int count = elements.length;
+
+    if(count == 0) {
+      return false;
+    }
+
+    if(count == 1) {  // single element insertion is cheaper than the general case
+      @SuppressWarnings("unchecked")
+      E element = (E)elements[0];
+
+      add(index, element);
+
+      return true;
+    }
+
+    if(overflowPolicy != null && count > maximumSize - size) {
+      if(overflowPolicy == OverflowPolicy.REJECT) {
+        throw new IllegalStateException("List cannot hold more than " + maximumSize + " elements");
+      }
+
+      int insertIndex = index;
+
+      for(Object element : elements) {
+        int nextIndex = insertionIndex(insertIndex) + 1;
+
+        @SuppressWarnings("unchecked")
+        E e = (E)element;
+
+        add(insertIndex, e);
+
+        insertIndex = nextIndex;
+      }
+
+      return true;
+    }
+
+    modCount++;
+    normalized = false;
+    unshare();
+    completeGrowth();
+
+    if(count > MAX_CAPACITY - size) {
+      capacityFor(size + count);  // throws
+    }
+
+    ensureCapacityInternal(size + count);
+
+    final int size = this.size;
+    final int BLOCK_SIZE = 1 << shift;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    /*
+     * Makes room for the new elements by moving the elements before or after
+     * the insertion point, whichever are fewer, by count positions.
+     *
+     * When count is a block size or more, this is done by moving these elements
+     * to their new positions directly, using as few array copies as the block
+     * layout allows.
+     *
+     * When count is smaller than the block size, each block (except the block
+     * containing the insertion point) which must be moved is rotated by count
+     * instead, leaving only count elements per block to be copied from its
+     * neighbouring block. The block containing the insertion point is updated
+     * last, shifting or rotating it, whichever moves fewer elements.
+     */
+
+    if(index == size) {
+      // nothing to move
+    }
+    else if(index >= size >> 1) {  // move elements after insertion point to the right
+      if(count >= BLOCK_SIZE) {
+        moveRange(index, index + count, size - index);
+      }
+      else {
+        final E[] data = this.data;
+        final int[] rotations = this.rotations;
+        final int rotationsMask = rotations.length - 1;
+        final int BLOCK_SHIFT = shift;
+        final int insertionBlockStart = index - (toPosition(index) & BLOCK_MASK);
+        final int insertionBlock = toPosition(index) >> BLOCK_SHIFT;
+
+        for(int block = toPosition(size + count - 1) >> BLOCK_SHIFT; block != insertionBlock;) {
+          int previousBlock = (block - 1) & rotationsMask;
+          int rotation = (rotations[block] - count) & BLOCK_MASK;
+
+          rotations[block] = rotation;  // moves all but the last count elements into place
+
+          // copy last elements of previous block to the start of this block:
+          circularCopy(data, previousBlock << BLOCK_SHIFT, (rotations[previousBlock] - count) & BLOCK_MASK, block << BLOCK_SHIFT, rotation, count, BLOCK_MASK);
+
+          block = previousBlock;
+        }
+
+        int shiftLength = Math.min(insertionBlockStart + BLOCK_SIZE - count, size) - index;
+        int rotateLength = index - insertionBlockStart;
+
+        if(shiftLength <= rotateLength) {
+          moveRange(index, index + count, shiftLength);
+        }
+        else {
+          int block = toPosition(insertionBlockStart) >> shift;
+
+          rotations[block] = (rotations[block] - count) & BLOCK_MASK;
+
+          moveRange(insertionBlockStart + count, insertionBlockStart, rotateLength);
+        }
+      }
+    }
+    else {  // move elements before insertion point to the left
+      offset = (offset - count) & (data.length - 1);
+
+      if(index == 0) {
+        // nothing to move
+      }
+      else if(count >= BLOCK_SIZE) {
+        moveRange(count, 0, index);
+      }
+      else {
+        final E[] data = this.data;
+        final int[] rotations = this.rotations;
+        final int rotationsMask = rotations.length - 1;
+        final int BLOCK_SHIFT = shift;
+        final int lastMovedIndex = index + count - 1;
+        final int insertionBlockStart = lastMovedIndex - (toPosition(lastMovedIndex) & BLOCK_MASK);
+        final int insertionBlock = toPosition(lastMovedIndex) >> BLOCK_SHIFT;
+
+        for(int block = toPosition(0) >> BLOCK_SHIFT; block != insertionBlock;) {
+          int nextBlock = (block + 1) & rotationsMask;
+          int rotation = rotations[block];
+
+          rotations[block] = (rotation + count) & BLOCK_MASK;  // moves all but the first count elements into place
+
+          // copy first elements of next block to the end of this block:
+          circularCopy(data, nextBlock << BLOCK_SHIFT, rotations[nextBlock], block << BLOCK_SHIFT, rotation, count, BLOCK_MASK);
+
+          block = nextBlock;
+        }
+
+        int moveStart = Math.max(insertionBlockStart, 0);
+        int shiftLength = index - moveStart;
+        int rotateLength = insertionBlockStart + BLOCK_SIZE - 1 - lastMovedIndex;
+
+        if(shiftLength <= rotateLength) {
+          moveRange(moveStart + count, moveStart, shiftLength);
+        }
+        else {
+          int block = toPosition(insertionBlockStart) >> shift;
+
+          rotations[block] = (rotations[block] + count) & BLOCK_MASK;
+
+          moveRange(lastMovedIndex + 1 - count, lastMovedIndex + 1, rotateLength);
+        }
+      }
+    }
+
+    copyIn(elements, index);
+
+    this.size = size + count;
+
+    return true;
+  }
+
+  /**
+   * Adds an element to a full bounded list according to its overflow policy.
+   * Adding at either end of the list while evicting the element at the other end
+   * moves the global offset, and so does not move any other elements.
+   *
+   * @param index the index at which to add the element
+   * @param e the element to add
+   */
+  private void addToFullList(int index, E e) {
+    E evicted;
+
+    switch(overflowPolicy) {
+      case REJECT -> throw new IllegalStateException("List cannot hold more than " + maximumSize + " elements");
+      case OVERWRITE_OLDEST -> {
+        if(index == 0 || index == size) {
+          modCount++;
+          normalized = false;
+          unshare();
+          completeGrowth();
+
+          /*
+           * The slot of the evicted element is cleared rather than reused, as
+           * it is never the free slot at the other end of the list, and so
+           * becomes a free slot itself:
+           */
+
+          int evictedIndex = toDataIndex(index == 0 ? size - 1 : 0);
+
+          evicted = data[evictedIndex];
+          data[evictedIndex] = null;
+
+          if(index == 0) {
+            moveOffsetLeft();
+          }
+          else {
+            moveOffsetRight();
+          }
+
+          data[toDataIndex(index == 0 ? 0 : size - 1)] = e;
+        }
+        else {
+          evicted = removeFirst();
+
+          add(index - 1, e);
+        }
+      }
+      case OVERWRITE_NEWEST -> {
+        if(index == 0 || index == size) {
+          evicted = set(index == 0 ? 0 : size - 1, e);
+        }
+        else {
+          evicted = removeLast();
+
+          add(index, e);
+        }
+      }
+      default -> throw new AssertionError();
+    }
+
+    if(evictionListener != null) {
+      evictionListener.accept(evicted);
+    }
+  }
+
+  /**
+   * Returns the index at which {@link #add(int, Object)} stores an element added
+   * at the given index, which differs from the given index only when an element is
+   * added to a full bounded list.
+   *
+   * @param index the index at which an element is added
+   * @return the index at which the element is stored
+   */
+  private int insertionIndex(int index) {
+    if(size < maximumSize || index == 0) {
+      return index;
+    }
+
+    return overflowPolicy == OverflowPolicy.OVERWRITE_OLDEST || index == size ? index - 1 : index;
+  }
+
   private boolean shouldIncreaseCapacity() {
     return size >= data.length - (1 << shift);
   }
@@ -402,10 +856,55 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
   }
 
   private void doubleCapacity() {
-    int newLength = Math.max(MIN_SIZE, data.length * 2);
+    increaseCapacity(Math.max(minimumLength, data.length * 2));
+  }
 
-    @SuppressWarnings("unchecked")
-    E[] newData = (E[]) new Object[newLength];
+  /**
+   * Ensures the list can hold at least the given number of elements, growing the
+   * backing array in a single step if needed.
+   *
+   * @param minCapacity the required number of elements
+   */
+  private void ensureCapacityInternal(int minCapacity) {
+    if(minCapacity > data.length - (1 << shift)) {
+      increaseCapacity(capacityFor(minCapacity));
+    }
+  }
+
+  /**
+   * Returns the smallest backing array length which can hold the given number of
+   * elements, taking into account that one block must always remain free.
+   *
+   * @param minCapacity the required number of elements
+   * @return a backing array length, always a power of 2
+   * @throws OutOfMemoryError if the required capacity exceeds the maximum capacity
+   */
+  static int capacityFor(int minCapacity) {
+    if(minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+      throw new OutOfMemoryError("Required capacity too large: " + Integer.toUnsignedString(minCapacity));
+    }
+
+    int length = MIN_SIZE;
+
+    while(minCapacity > length - (1 << SHIFTS[Integer.numberOfTrailingZeros(length)])) {
+      length <<= 1;
+    }
+
+    return length;
+  }
+
+  /**
+   * Returns the preferred block size, as a power of 2, for a backing array of
+   * the given length.
+   *
+   * @param length a backing array length, must be a power of 2
+   * @return a block size shift
+   */
+  static int shiftFor(int length) {
+    return SHIFTS[Integer.numberOfTrailingZeros(length)];
+  }
+
+  private void increaseCapacity(int newLength) {
 
     /*
      * The goal when growing the capacity is to put all new space between
@@ -422,33 +921,21 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
      * put the block containing the first element at the same distance from
      * the end of the array.
      *
-     * When also changing the block size, currently the array is just recreated
-     * completely with all rotations reset.
+     * When also changing the block size, the array is recreated completely
+     * instead, see relayout.
      */
 
-    int preferredShift = SHIFTS[Integer.numberOfTrailingZeros(newLength)];
-
-    if(preferredShift > shift) {
-      final int blockMask = (1 << shift) - 1;
-      final int mask = data.length - 1;
-      final int baseMask = ~blockMask;
-
-      for(int index = 0; index < size; index++) {
-        int position = (index + offset) & mask;
-        int block = position >> shift;
-        int baseIndex = position & baseMask;
-
-        newData[index] = data[baseIndex | ((rotations[block] + position) & blockMask)];
-      }
-
-      this.data = newData;
-      this.rotations = new int[newLength >> preferredShift];
-      this.shift = preferredShift;
-      this.offset = 0;
+    if(SHIFTS[Integer.numberOfTrailingZeros(newLength)] > shift || owners != null) {
+      relayout(newLength);  // also when the arrays are shared, as the blocks cannot be unrotated in place
 
       return;
     }
 
+    completeGrowth();
+
+    @SuppressWarnings("unchecked")
+    E[] newData = (E[]) new Object[newLength];
+
     final int firstElementIndex = toPosition(0);
     final int BLOCK_SHIFT = shift;
 
@@ -472,162 +959,1032 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
     this.rotations = newRotations;
   }
 
-  private void unrotate(int block) {
-    int rotation = rotations[block];
-
-    if(rotation != 0) {
-      int baseIndex = block << shift;
-      int blockSize = 1 << shift;
+  private boolean shouldDecreaseCapacity() {
+    return size < data.length >> 2 && data.length > minimumLength;
+  }
 
-      reverse(data, baseIndex, baseIndex + rotation - 1);
-      reverse(data, baseIndex + rotation, baseIndex + blockSize - 1);
-      reverse(data, baseIndex, baseIndex + blockSize - 1);
+  /**
+   * Halves the backing array until the list occupies at least a quarter of it,
+   * or the minimum length is reached. As a list is only shrunk once it falls below
+   * a quarter of its capacity, and then only to half its capacity, a list which
+   * is alternately growing and shrinking will not repeatedly resize.
+   */
+  private void decreaseCapacity() {
+    int newLength = data.length >> 1;
 
-      rotations[block] = 0;
+    while(size < newLength >> 2 && newLength > minimumLength) {
+      newLength >>= 1;
     }
+
+    relayout(newLength);
   }
 
-  private static <T> void reverse(T[] data, int start, int end) {
-    int s = start;
-    int e = end;
+  /**
+   * Recreates the backing array with the given length, storing all elements
+   * in order from the start of the array with all rotations reset. The block
+   * size is set to the preferred block size for the new length. The current
+   * arrays are only read, and so need not be copied first if they are shared
+   * with a clone. A growth in progress is completed by the copy.
+   *
+   * @param newLength the new length of the backing array, must be a power of 2 and large enough to hold all elements
+   */
+  private void relayout(int newLength) {
+    @SuppressWarnings("unchecked")
+    E[] newData = (E[]) new Object[newLength];
 
-    while(s < e) {
-      T temp = data[s];
+    copyTo(newData);  // leaves all blocks of the new array unrotated, regardless of the new block size
+    release();
 
-      data[s++] = data[e];
-      data[e--] = temp;
-    }
+    int newShift = SHIFTS[Integer.numberOfTrailingZeros(newLength)];
+
+    this.oldData = null;
+    this.oldRotations = null;
+    this.data = newData;
+    this.rotations = new int[newLength >> newShift];
+    this.shift = newShift;
+    this.offset = 0;
   }
 
-  @Override
-  public E set(int index, E e) {
-    Objects.checkIndex(index, size);
+  /**
+   * Starts growing the backing array to double its length incrementally. The new
+   * backing array is allocated, but the blocks are only copied over as needed or
+   * with each subsequent modification, see {@link #advanceGrowth(int)}.
+   */
+  private void startGrowth() {
+    completeGrowth();
 
-    E[] data = this.data;
-    int dataIndex = toDataIndex(index);
-    E old = data[dataIndex];
+    if(size == 0) {
+      doubleCapacity();  // nothing to migrate
 
-    data[dataIndex] = e;
+      return;
+    }
 
-    return old;
-  }
+    int newLength = data.length * 2;
+    int newShift = SHIFTS[Integer.numberOfTrailingZeros(newLength)];
+
+    @SuppressWarnings("unchecked")
+    E[] newData = (E[]) new Object[newLength];
+    int[] newRotations = new int[newLength >> newShift];
+
+    Arrays.fill(newRotations, -1);  // marks all blocks as not migrated
+
+    this.oldData = data;
+    this.oldRotations = rotations;
+    this.oldShift = shift;
+    this.oldFirstBlockStart = toPosition(0) & ~((1 << shift) - 1);
+    this.migrationCursor = 0;
+    this.data = newData;
+    this.rotations = newRotations;
+    this.shift = newShift;
+  }
+
+  /**
+   * Migrates the block containing the given position if needed, then migrates
+   * at most one other block to make progress on the growth in progress.
+   *
+   * @param position a position in the new backing array
+   */
+  private void advanceGrowth(int position) {
+    migrateBlockAt(position);
+    migrateNext();
+  }
+
+  private void completeGrowth() {
+    while(oldData != null) {
+      migrateNext();
+    }
+  }
+
+  private void migrateBlockAt(int position) {
+    int block = position >> shift;
+
+    if(rotations[block] < 0) {
+      migrate(block);
+    }
+  }
+
+  private void migrateNext() {
+    final int[] rotations = this.rotations;
+
+    int block = migrationCursor;
+
+    while(block < rotations.length && rotations[block] >= 0) {
+      block++;
+    }
+
+    if(block < rotations.length) {
+      migrate(block++);
+    }
+
+    if(block == rotations.length) {  // all blocks migrated
+      this.oldData = null;
+      this.oldRotations = null;
+    }
+
+    migrationCursor = block;
+  }
+
+  /**
+   * Copies the elements belonging to the given block of the new backing array
+   * from the old backing array. When the block size is unchanged, a block is
+   * copied as is, keeping its rotation. Otherwise the new block is formed from
+   * several old blocks, each of which is unrotated while copying.
+   *
+   * @param block a block index of the new backing array which was not migrated yet
+   */
+  private void migrate(int block) {
+    final E[] oldData = this.oldData;
+    final int oldMask = oldData.length - 1;
+    final int OLD_BLOCK_SHIFT = oldShift;
+    final int OLD_BLOCK_SIZE = 1 << OLD_BLOCK_SHIFT;
+    final int start = block << shift;
+    final int end = start + (1 << shift);
+
+    int rotation = 0;
+
+    for(int position = start; position < end; position += OLD_BLOCK_SIZE) {
+      int oldPosition = position & oldMask;
+
+      if((position <= oldMask) != (oldPosition >= oldFirstBlockStart)) {
+        continue;  // position was not mapped to this part of the new array
+      }
+
+      int oldRotation = oldRotations[oldPosition >> OLD_BLOCK_SHIFT];
+
+      if(shift == OLD_BLOCK_SHIFT) {
+        System.arraycopy(oldData, oldPosition, data, position, OLD_BLOCK_SIZE);
+
+        rotation = oldRotation;
+      }
+      else {
+        System.arraycopy(oldData, oldPosition + oldRotation, data, position, OLD_BLOCK_SIZE - oldRotation);
+        System.arraycopy(oldData, oldPosition, data, position + OLD_BLOCK_SIZE - oldRotation, oldRotation);
+      }
+    }
+
+    rotations[block] = rotation;
+  }
+
+  private E elementAtWhileGrowing(int position) {
+    int blockMask = (1 << shift) - 1;
+    int rotation = rotations[position >> shift];
+
+    if(rotation < 0) {
+      return oldData[toOldDataIndex(position)];
+    }
+
+    return data[(position & ~blockMask) | ((rotation + position) & blockMask)];
+  }
+
+  /**
+   * Returns the index in the old backing array of the element at the given position
+   * of the new backing array, for a block which was not migrated yet.
+   *
+   * @param position a position in the new backing array
+   * @return an index in the old backing array
+   */
+  private int toOldDataIndex(int position) {
+    final int oldBlockMask = (1 << oldShift) - 1;
+    final int oldPosition = position & (oldData.length - 1);
+
+    return (oldPosition & ~oldBlockMask) | ((oldRotations[oldPosition >> oldShift] + oldPosition) & oldBlockMask);
+  }
+
+  private void unrotate(int block) {
+    int rotation = rotations[block];
+
+    if(rotation != 0) {
+      int baseIndex = block << shift;
+      int blockSize = 1 << shift;
+
+      reverse(data, baseIndex, baseIndex + rotation - 1);
+      reverse(data, baseIndex + rotation, baseIndex + blockSize - 1);
+      reverse(data, baseIndex, baseIndex + blockSize - 1);
+
+      rotations[block] = 0;
+    }
+  }
+
+  private static <T> void reverse(T[] data, int start, int end) {
+    int s = start;
+    int e = end;
+
+    while(s < e) {
+      T temp = data[s];
+
+      data[s++] = data[e];
+      data[e--] = temp;
+    }
+  }
+
+  @Override
+  public E set(int index, E e) {
+    Objects.checkIndex(index, size);
+    unshare();
+
+    if(normalized) {
+      E old = data[index];
+
+      data[index] = e;
+
+      return old;
+    }
+
+    if(oldData != null) {
+      migrateBlockAt(toPosition(index));
+    }
+
+    E[] data = this.data;
+    int dataIndex = toDataIndex(index);
+    E old = data[dataIndex];
+
+    data[dataIndex] = e;
+
+    return old;
+  }
 
   @Override
   public E removeFirst() {
     final int newSize = this.size - 1;
 
-    if(newSize < 0) {
-      throw new NoSuchElementException();
+    if(newSize < 0) {
+      throw new NoSuchElementException();
+    }
+
+    modCount++;
+    normalized = false;
+    unshare();
+
+    if(oldData != null) {
+      advanceGrowth(toPosition(0));
+    }
+
+    int dataIndex = toDataIndex(0);
+    E deletedElement = this.data[dataIndex];
+
+    this.data[dataIndex] = null;
+    this.size = newSize;
+
+    moveOffsetRight();
+
+    if(shouldDecreaseCapacity()) {
+      decreaseCapacity();
+    }
+
+    return deletedElement;
+  }
+
+  @Override
+  public E removeLast() {
+    final int newSize = this.size - 1;
+
+    if(newSize < 0) {
+      throw new NoSuchElementException();
+    }
+
+    modCount++;
+    normalized = false;
+    unshare();
+
+    if(oldData != null) {
+      advanceGrowth(toPosition(newSize));
+    }
+
+    int dataIndex = toDataIndex(newSize);
+    E deletedElement = this.data[dataIndex];
+
+    this.data[dataIndex] = null;
+    this.size = newSize;
+
+    if(shouldDecreaseCapacity()) {
+      decreaseCapacity();
+    }
+
+    return deletedElement;
+  }
+
+  @Override
+  public E remove(int index) {
+    Objects.checkIndex(index, size);  // Check this first to throw correct exception (as removeLast will throw a different one)
+
+    if(index == size - 1) {
+      return removeLast();
+    }
+
+    if(index == 0) {
+      return removeFirst();
+    }
+
+    modCount++;
+    normalized = false;
+    unshare();
+    completeGrowth();
+
+    final int BLOCK_SHIFT = shift;
+    final int BLOCK_MASK = (1 << shift) - 1;
+    final int position = toPosition(index);
+    final boolean removeNearEnd = index >= size >> 1;
+
+    int deletionBlock = position >> BLOCK_SHIFT;
+
+    final int baseIndex = deletionBlock << BLOCK_SHIFT;
+    final int startRotation = rotations[deletionBlock];
+    final int deleteIndex = baseIndex | ((startRotation + position) & BLOCK_MASK);
+    final E deletedElement = data[deleteIndex];
+    final int rotationsMask = rotations.length - 1;
+
+    int gapIndex;
+
+    if(removeNearEnd) {
+      gapIndex = baseIndex | ((startRotation - 1) & BLOCK_MASK);
+
+      if(gapIndex < deleteIndex) {
+        System.arraycopy(data, gapIndex, data, gapIndex + 1, deleteIndex - gapIndex);
+
+        rotations[deletionBlock] = (startRotation + 1) & BLOCK_MASK;
+        gapIndex++;
+      }
+      else {
+        System.arraycopy(data, deleteIndex + 1, data, deleteIndex, gapIndex - deleteIndex);
+      }
+
+      /*
+       * Adjust blocks to the right of deletion block, moving one element to the left:
+       *
+       *   deletion block                        last block
+       * +-----------------+-----------------+-----------------+
+       * |               G | F               | F               |
+       * +-----------------+-----------------+-----------------+
+       *                 ^   |                 |
+       *                 \___/                 |
+       *                     ^                 |
+       *                     \_________________/
+       *
+       * F = first element
+       * G = gap
+       */
+
+      final int lastBlock = toPosition(size - 1) >> BLOCK_SHIFT;
+
+      while(deletionBlock != lastBlock) {
+        deletionBlock = (deletionBlock + 1) & rotationsMask;
+
+        int readRotation = rotations[deletionBlock];
+        int readIndex = (deletionBlock << BLOCK_SHIFT) | readRotation;
+
+        rotations[deletionBlock] = (readRotation + 1) & BLOCK_MASK;  // adjust first index of next block
+        data[gapIndex] = data[readIndex];  // copy first element from next block to last element of previous block
+
+        gapIndex = readIndex;
+      }
+    }
+    else {
+      gapIndex = baseIndex | startRotation;
+
+      if(gapIndex > deleteIndex) {
+        System.arraycopy(data, deleteIndex + 1, data, deleteIndex, gapIndex - deleteIndex - 1);
+
+        rotations[deletionBlock] = (startRotation - 1) & BLOCK_MASK;
+        gapIndex--;
+      }
+      else {
+        System.arraycopy(data, gapIndex, data, gapIndex + 1, deleteIndex - gapIndex);
+      }
+
+      /*
+       * Adjust blocks to the left of deletion block, moving one element to the right:
+       *
+       *   first block                           deletion block
+       * +-----------------+-----------------+-----------------+
+       * |               L |               L | G               |
+       * +-----------------+-----------------+-----------------+
+       *                 |                 |   ^
+       *                 |                 \___/
+       *                 |                 ^
+       *                 \_________________/
+       *
+       * L = last element
+       * G = gap
+       */
+
+      final int firstBlock = toPosition(0) >> BLOCK_SHIFT;
+
+      while(deletionBlock != firstBlock) {
+        deletionBlock = (deletionBlock - 1) & rotationsMask;
+
+        int readRotation = (rotations[deletionBlock] - 1) & BLOCK_MASK;
+        int readIndex = (deletionBlock << BLOCK_SHIFT) | readRotation;
+
+        rotations[deletionBlock] = readRotation;  // adjust first index of previous block
+        data[gapIndex] = data[readIndex];  // copy last element from previous block to first element of next block
+
+        gapIndex = readIndex;
+      }
+
+      moveOffsetRight();
+    }
+
+    data[gapIndex] = null;
+    size--;
+
+    if(shouldDecreaseCapacity()) {
+      decreaseCapacity();
+    }
+
+    return deletedElement;
+  }
+
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size);
+
+    final int count = toIndex - fromIndex;
+
+    if(count == 0) {
+      return;
+    }
+
+    modCount++;
+    normalized = false;
+    unshare();
+    completeGrowth();
+
+    final int size = this.size;
+    final int BLOCK_SIZE = 1 << shift;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    /*
+     * Closes the gap by moving the elements before or after the removed range,
+     * whichever are fewer, by count positions. The location which are vacated
+     * by this move are cleared afterwards.
+     *
+     * When count is a block size or more, this is done by moving these elements
+     * to their new positions directly, using as few array copies as the block
+     * layout allows.
+     *
+     * When count is smaller than the block size, the (partially filled) blocks
+     * at either end of the affected range are shifted directly, while each block
+     * in between is rotated by count, leaving only count elements per block to
+     * be copied from its neighbouring block.
+     */
+
+    if(size - toIndex <= fromIndex) {  // move elements after removed range to the left
+      if(toIndex == size) {
+        // nothing to move
+      }
+      else if(count >= BLOCK_SIZE) {
+        moveRange(toIndex, fromIndex, size - toIndex);
+      }
+      else {
+        final int firstBlockEnd = fromIndex - (toPosition(fromIndex) & BLOCK_MASK) + BLOCK_SIZE;
+        final int lastTarget = size - count - 1;
+        final int lastBlockStart = lastTarget - (toPosition(lastTarget) & BLOCK_MASK);
+
+        if(lastBlockStart < firstBlockEnd) {  // all targets are in a single block
+          moveRange(toIndex, fromIndex, size - toIndex);
+        }
+        else {
+          final E[] data = this.data;
+          final int[] rotations = this.rotations;
+          final int rotationsMask = rotations.length - 1;
+          final int BLOCK_SHIFT = shift;
+          final int lastBlock = toPosition(lastBlockStart) >> BLOCK_SHIFT;
+
+          moveRange(fromIndex + count, fromIndex, firstBlockEnd - fromIndex);
+
+          for(int block = toPosition(firstBlockEnd) >> BLOCK_SHIFT; block != lastBlock;) {
+            int nextBlock = (block + 1) & rotationsMask;
+            int rotation = rotations[block];
+
+            rotations[block] = (rotation + count) & BLOCK_MASK;  // moves all but the last count elements into place
+
+            // copy first elements of next block to the end of this block:
+            circularCopy(data, nextBlock << BLOCK_SHIFT, rotations[nextBlock], block << BLOCK_SHIFT, rotation, count, BLOCK_MASK);
+
+            block = nextBlock;
+          }
+
+          moveRange(lastBlockStart + count, lastBlockStart, size - count - lastBlockStart);
+        }
+      }
+
+      clearRange(size - count, size);
+    }
+    else {  // move elements before removed range to the right
+      if(fromIndex == 0) {
+        // nothing to move
+      }
+      else if(count >= BLOCK_SIZE) {
+        moveRange(0, count, fromIndex);
+      }
+      else {
+        final int lastBlockStart = toIndex - 1 - (toPosition(toIndex - 1) & BLOCK_MASK);
+        final int firstBlockEnd = count - (toPosition(count) & BLOCK_MASK) + BLOCK_SIZE;
+
+        if(firstBlockEnd > toIndex - 1) {  // all targets are in a single block
+          moveRange(0, count, fromIndex);
+        }
+        else {
+          final E[] data = this.data;
+          final int[] rotations = this.rotations;
+          final int rotationsMask = rotations.length - 1;
+          final int BLOCK_SHIFT = shift;
+          final int firstBlock = toPosition(count) >> BLOCK_SHIFT;
+          final int moveStart = Math.max(lastBlockStart, count);
+
+          moveRange(moveStart - count, moveStart, toIndex - moveStart);
+
+          for(int block = ((toPosition(lastBlockStart) >> BLOCK_SHIFT) - 1) & rotationsMask; block != firstBlock;) {
+            int previousBlock = (block - 1) & rotationsMask;
+            int rotation = (rotations[block] - count) & BLOCK_MASK;
+
+            rotations[block] = rotation;  // moves all but the first count elements into place
+
+            // copy last elements of previous block to the start of this block:
+            circularCopy(data, previousBlock << BLOCK_SHIFT, (rotations[previousBlock] - count) & BLOCK_MASK, block << BLOCK_SHIFT, rotation, count, BLOCK_MASK);
+
+            block = previousBlock;
+          }
+
+          moveRange(0, count, firstBlockEnd - count);
+        }
+      }
+
+      clearRange(0, count);
+
+      offset = (offset + count) & (data.length - 1);
+    }
+
+    this.size = size - count;
+
+    if(shouldDecreaseCapacity()) {
+      decreaseCapacity();
+    }
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super E> filter) {
+    Objects.requireNonNull(filter);
+    unshare();
+    completeGrowth();
+
+    final int expectedModCount = modCount;
+    final int size = this.size;
+    final E[] data = this.data;
+    final int mask = data.length - 1;
+    final int BLOCK_SIZE = 1 << shift;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    /*
+     * The filter is applied to all elements first, marking the ones to remove
+     * in a bit set. This leaves the list unmodified should the filter throw an
+     * exception or modify the list itself.
+     */
+
+    long[] removals = null;
+    int firstRemoval = size;
+
+    for(int i = 0; i < size;) {
+      int position = (i + offset) & mask;
+      int dataIndex = (position & ~BLOCK_MASK) | ((rotations[position >> shift] + position) & BLOCK_MASK);
+      int end = i + Math.min(size - i, BLOCK_SIZE - Math.max(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+
+      for(; i < end; i++, dataIndex++) {
+        if(filter.test(data[dataIndex])) {
+          if(removals == null) {
+            removals = new long[((size - 1) >> 6) + 1];
+            firstRemoval = i;
+          }
+
+          removals[i >> 6] |= 1L << i;
+        }
+      }
+    }
+
+    if(modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+
+    if(removals == null) {
+      return false;
+    }
+
+    modCount++;
+    normalized = false;
+
+    /*
+     * Compacts the survivors in a single pass. As the write index never passes
+     * the read index, each run of surviving elements can be moved to its final
+     * location directly without disturbing elements that were not read yet.
+     */
+
+    int writeIndex = firstRemoval;
+
+    for(int readIndex = firstRemoval; readIndex < size;) {
+      int start = nextClearBit(removals, readIndex, size);
+      int end = nextSetBit(removals, start, size);
+
+      moveRange(start, writeIndex, end - start);
+
+      writeIndex += end - start;
+      readIndex = end;
+    }
+
+    clearRange(writeIndex, size);
+
+    this.size = writeIndex;
+
+    if(shouldDecreaseCapacity()) {
+      decreaseCapacity();
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    Objects.requireNonNull(c);
+
+    return removeIf(c::contains);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    Objects.requireNonNull(c);
+
+    return removeIf(e -> !c.contains(e));
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    Objects.requireNonNull(action);
+
+    final int expectedModCount = modCount;
+    final int size = this.size;
+    final E[] data = this.data;
+    final int[] rotations = this.rotations;
+    final int mask = data.length - 1;
+    final int BLOCK_SHIFT = shift;
+    final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    for(int i = 0; i < size;) {
+      int position = (i + offset) & mask;
+      int rotation = rotations[position >> BLOCK_SHIFT];
+
+      if(rotation < 0) {  // block not migrated yet while growing
+        action.accept(oldData[toOldDataIndex(position)]);
+        i++;
+        continue;
+      }
+
+      int dataIndex = (position & ~BLOCK_MASK) | ((rotation + position) & BLOCK_MASK);
+      int end = i + Math.min(size - i, BLOCK_SIZE - Math.max(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+
+      for(; i < end; i++, dataIndex++) {
+        action.accept(data[dataIndex]);
+      }
+    }
+
+    if(modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<E> operator) {
+    Objects.requireNonNull(operator);
+    unshare();
+    completeGrowth();
+
+    final int expectedModCount = modCount;
+    final int size = this.size;
+    final E[] data = this.data;
+    final int[] rotations = this.rotations;
+    final int mask = data.length - 1;
+    final int BLOCK_SHIFT = shift;
+    final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    for(int i = 0; i < size;) {
+      int position = (i + offset) & mask;
+      int dataIndex = (position & ~BLOCK_MASK) | ((rotations[position >> BLOCK_SHIFT] + position) & BLOCK_MASK);
+      int end = i + Math.min(size - i, BLOCK_SIZE - Math.max(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+
+      for(; i < end; i++, dataIndex++) {
+        data[dataIndex] = operator.apply(data[dataIndex]);
+      }
     }
 
-    modCount++;
+    if(modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
 
-    int dataIndex = toDataIndex(0);
-    E deletedElement = this.data[dataIndex];
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) >= 0;
+  }
 
-    this.data[dataIndex] = null;
-    this.size = newSize;
+  @Override
+  public int indexOf(Object o) {
+    final int size = this.size;
+    final E[] data = this.data;
+    final int[] rotations = this.rotations;
+    final int mask = data.length - 1;
+    final int BLOCK_SHIFT = shift;
+    final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
 
-    moveOffsetRight();
+    for(int i = 0; i < size;) {
+      int position = (i + offset) & mask;
+      int rotation = rotations[position >> BLOCK_SHIFT];
 
-    return deletedElement;
+      if(rotation < 0) {  // block not migrated yet while growing
+        if(Objects.equals(o, oldData[toOldDataIndex(position)])) {
+          return i;
+        }
+
+        i++;
+        continue;
+      }
+
+      int dataIndex = (position & ~BLOCK_MASK) | ((rotation + position) & BLOCK_MASK);
+      int length = Math.min(size - i, BLOCK_SIZE - Math.max(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+      int found = scanForward(data, dataIndex, dataIndex + length, o);
+
+      if(found >= 0) {
+        return i + found - dataIndex;
+      }
+
+      i += length;
+    }
+
+    return -1;
   }
 
   @Override
-  public E removeLast() {
-    final int newSize = this.size - 1;
+  public int lastIndexOf(Object o) {
+    final E[] data = this.data;
+    final int[] rotations = this.rotations;
+    final int mask = data.length - 1;
+    final int BLOCK_SHIFT = shift;
+    final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
 
-    if(newSize < 0) {
-      throw new NoSuchElementException();
+    for(int i = size - 1; i >= 0;) {
+      int position = (i + offset) & mask;
+      int rotation = rotations[position >> BLOCK_SHIFT];
+
+      if(rotation < 0) {  // block not migrated yet while growing
+        if(Objects.equals(o, oldData[toOldDataIndex(position)])) {
+          return i;
+        }
+
+        i--;
+        continue;
+      }
+
+      int dataIndex = (position & ~BLOCK_MASK) | ((rotation + position) & BLOCK_MASK);
+      int length = Math.min(i + 1, 1 + Math.min(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+      int found = scanBackward(data, dataIndex - length + 1, dataIndex + 1, o);
+
+      if(found >= 0) {
+        return i - (dataIndex - found);
+      }
+
+      i -= length;
     }
 
-    modCount++;
+    return -1;
+  }
 
-    int dataIndex = toDataIndex(newSize);
-    E deletedElement = this.data[dataIndex];
+  /**
+   * Returns the index of the first element equal to the given object in the given
+   * range of an array, or -1 if there is no such element.
+   */
+  private static int scanForward(Object[] array, int fromIndex, int toIndex, Object o) {
+    if(o == null) {
+      for(int i = fromIndex; i < toIndex; i++) {
+        if(array[i] == null) {
+          return i;
+        }
+      }
+    }
+    else {
+      for(int i = fromIndex; i < toIndex; i++) {
+        if(o.equals(array[i])) {
+          return i;
+        }
+      }
+    }
 
-    this.data[dataIndex] = null;
-    this.size = newSize;
+    return -1;
+  }
 
-    return deletedElement;
+  /**
+   * Returns the index of the last element equal to the given object in the given
+   * range of an array, or -1 if there is no such element.
+   */
+  private static int scanBackward(Object[] array, int fromIndex, int toIndex, Object o) {
+    if(o == null) {
+      for(int i = toIndex - 1; i >= fromIndex; i--) {
+        if(array[i] == null) {
+          return i;
+        }
+      }
+    }
+    else {
+      for(int i = toIndex - 1; i >= fromIndex; i--) {
+        if(o.equals(array[i])) {
+          return i;
+        }
+      }
+    }
+
+    return -1;
   }
 
+  /**
+   * Sorts this list according to the order induced by the given {@link Comparator}.
+   * The elements are first rearranged in place so they are stored in order from the
+   * start of the backing array, which is then sorted directly without copying the
+   * elements to a separate array. Lists larger than a threshold are sorted with
+   * {@link Arrays#parallelSort(Object[], int, int, Comparator)}.
+   *
+   * @param c the {@code Comparator} used to compare list elements, or {@code null}
+   *   to use the elements' {@linkplain Comparable natural ordering}
+   * @throws ClassCastException if the list contains elements that are not
+   *   <i>mutually comparable</i> using the specified comparator
+   */
   @Override
-  public E remove(int index) {
-    Objects.checkIndex(index, size);  // Check this first to throw correct exception (as removeLast will throw a different one)
+  public void sort(Comparator<? super E> c) {
+    unshare();
+    completeGrowth();
 
-    if(index == size - 1) {
-      return removeLast();
+    final int expectedModCount = modCount;
+
+    normalizeInPlace();
+
+    if(size > PARALLEL_SORT_THRESHOLD) {
+      Arrays.parallelSort(data, 0, size, c);
+    }
+    else {
+      Arrays.sort(data, 0, size, c);
     }
 
-    // Future: more optimization is possible still for cases removing near the front
+    if(modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
 
     modCount++;
+  }
 
-    final int BLOCK_SHIFT = shift;
-    final int BLOCK_MASK = (1 << shift) - 1;
-    final int position = toPosition(index);
+  /**
+   * Rearranges the elements in place so that each element is stored at its index in
+   * the backing array, and switches {@link #get(int)} and {@link #set(int, Object)}
+   * to direct array accesses until the next structural modification. This is intended
+   * for lists which are built first and then only read for a long time, as it makes
+   * random access as fast as for an {@code ArrayList}. Any structural modification
+   * leaves this mode again; calling this method again afterwards costs {@code O(n)}.
+   */
+  public void normalize() {
+    if(!normalized) {
+      unshare();
+      completeGrowth();
+      normalizeInPlace();
 
-    int deletionBlock = position >> BLOCK_SHIFT;
+      this.normalized = true;
+    }
+  }
 
-    final int baseIndex = deletionBlock << BLOCK_SHIFT;
-    final int startRotation = rotations[deletionBlock];
-    final int deleteIndex = baseIndex | ((startRotation + position) & BLOCK_MASK);
-    final E deletedElement = data[deleteIndex];
+  /**
+   * Rearranges the elements in place so that they are stored in order from the
+   * start of the backing array, with the offset and all rotations reset to zero.
+   * This leaves the backing array sorted by index, and allows operations on the
+   * array as a whole.
+   */
+  private void normalizeInPlace() {
+    final E[] data = this.data;
 
-    int gapIndex = baseIndex | ((startRotation - 1) & BLOCK_MASK);
+    /*
+     * Unrotating each block leaves every element stored at its position, and
+     * as unused slots are moved along, positions not in use still map to empty
+     * slots. Moving the element at the offset to the start of the array then
+     * completes the normalization:
+     */
 
-    if(gapIndex < deleteIndex) {
-      System.arraycopy(data, gapIndex, data, gapIndex + 1, deleteIndex - gapIndex);
+    for(int block = 0; block < rotations.length; block++) {
+      unrotate(block);
+    }
 
-      rotations[deletionBlock] = (startRotation + 1) & BLOCK_MASK;
-      gapIndex++;
+    if(offset + size <= data.length) {
+      System.arraycopy(data, offset, data, 0, size);
+      Arrays.fill(data, size, offset + size, null);
     }
     else {
-      System.arraycopy(data, deleteIndex + 1, data, deleteIndex, gapIndex - deleteIndex);
+      reverse(data, 0, offset - 1);
+      reverse(data, offset, data.length - 1);
+      reverse(data, 0, data.length - 1);
     }
 
-    /*
-     * Adjust blocks to the right of deletion block, moving one element to the left:
-     *
-     *   deletion block                        last block
-     * +-----------------+-----------------+-----------------+
-     * |               G | F               | F               |
-     * +-----------------+-----------------+-----------------+
-     *                 ^   |                 |
-     *                 \___/                 |
-     *                     ^                 |
-     *                     \_________________/
-     *
-     * F = first element
-     * G = gap
-     */
+    this.offset = 0;
+  }
 
-    final int rotationsMask = rotations.length - 1;
-    final int lastBlock = toPosition(size - 1) >> BLOCK_SHIFT;
+  @Override
+  public Object[] toArray() {
+    Object[] array = new Object[size];
 
-    while(deletionBlock != lastBlock) {
-      deletionBlock = (deletionBlock + 1) & rotationsMask;
+    copyTo(array);
+
+    return array;
+  }
 
-      int readRotation = rotations[deletionBlock];
-      int readIndex = (deletionBlock << BLOCK_SHIFT) | readRotation;
+  @Override
+  public <T> T[] toArray(T[] a) {
+    @SuppressWarnings("unchecked")
+    T[] array = a.length >= size ? a : (T[])Array.newInstance(a.getClass().getComponentType(), size);
 
-      rotations[deletionBlock] = (readRotation + 1) & BLOCK_MASK;  // adjust first index of next block
-      data[gapIndex] = data[readIndex];  // copy first element from next block to last element of previous block
+    copyTo(array);
 
-      gapIndex = readIndex;
+    if(array.length > size) {
+      array[size] = null;
     }
 
-    data[gapIndex] = null;
-    size--;
+    return array;
+  }
 
-    return deletedElement;
+  /**
+   * Copies all elements in order to the start of the given array. Each block holds
+   * its elements in at most two contiguous runs, on either side of its rotation
+   * point, and so is copied with at most two array copies.
+   *
+   * @param target an array to copy the elements to, cannot be {@code null} and must be large enough to hold all elements
+   * @throws ArrayStoreException if an element cannot be stored in the given array
+   */
+  private void copyTo(Object[] target) {
+    final int size = this.size;
+    final E[] data = this.data;
+    final int[] rotations = this.rotations;
+    final int mask = data.length - 1;
+    final int BLOCK_SHIFT = shift;
+    final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    for(int i = 0; i < size;) {
+      int position = (i + offset) & mask;
+      int rotation = rotations[position >> BLOCK_SHIFT];
+
+      if(rotation < 0) {  // block not migrated yet while growing
+        target[i++] = oldData[toOldDataIndex(position)];
+        continue;
+      }
+
+      int dataIndex = (position & ~BLOCK_MASK) | ((rotation + position) & BLOCK_MASK);
+      int length = Math.min(size - i, BLOCK_SIZE - Math.max(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+
+      System.arraycopy(data, dataIndex, target, i, length);
+
+      i += length;
+    }
+  }
+
+  private static int nextSetBit(long[] bits, int fromIndex, int toIndex) {
+    for(int i = fromIndex; i < toIndex;) {
+      long word = bits[i >> 6] & (-1L << i);
+
+      if(word != 0) {
+        return Math.min(toIndex, (i & ~63) + Long.numberOfTrailingZeros(word));
+      }
+
+      i = (i & ~63) + 64;
+    }
+
+    return toIndex;
+  }
+
+  private static int nextClearBit(long[] bits, int fromIndex, int toIndex) {
+    for(int i = fromIndex; i < toIndex;) {
+      long word = ~bits[i >> 6] & (-1L << i);
+
+      if(word != 0) {
+        return Math.min(toIndex, (i & ~63) + Long.numberOfTrailingZeros(word));
+      }
+
+      i = (i & ~63) + 64;
+    }
+
+    return toIndex;
   }
 
   @Override
   public void clear() {
     modCount++;
+    normalized = false;
+
+    reset();
+  }
 
+  private void reset() {  // not overridable, so safe to call from constructors
     @SuppressWarnings("unchecked")
     E[] emptyData = (E[])EMPTY_DATA;
 
@@ -636,11 +1993,67 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
     this.offset = 0;
     this.size = 0;
     this.shift = 0;
+    this.oldData = null;
+    this.oldRotations = null;
+
+    release();
+  }
+
+  /**
+   * Increases the capacity of this list, if necessary, to ensure that it can hold
+   * at least the given number of elements without growing its backing array. The
+   * block size best suited for the final capacity is selected immediately, so adding
+   * the elements afterwards does not require any intermediate reorganizations.
+   *
+   * @param minCapacity the desired minimum capacity
+   * @throws OutOfMemoryError if the desired capacity exceeds the maximum capacity
+   */
+  public void ensureCapacity(int minCapacity) {
+    if(minCapacity > 0 && minCapacity > data.length - (1 << shift)) {
+      modCount++;
+      normalized = false;
+
+      ensureCapacityInternal(minCapacity);
+    }
+  }
+
+  /**
+   * Trims the capacity of this list to the smallest capacity which can hold its
+   * current elements. An application can use this operation to release memory
+   * after the list has shrunk considerably, without waiting for the list to shrink
+   * its capacity automatically.
+   */
+  public void trimToSize() {
+    if(size == 0) {
+      if(data.length > 0) {
+        modCount++;
+        normalized = false;
+
+        reset();
+      }
+
+      return;
+    }
+
+    int newLength = capacityFor(size);
+
+    if(newLength < data.length) {
+      modCount++;
+      normalized = false;
+
+      relayout(newLength);
+    }
   }
 
   /**
    * Returns a shallow copy of this instance; the elements themselves are not copied.
    *
+   * <p>Cloning takes constant time: the backing array is shared between this list and the
+   * clone until either is modified, at which point the modified list copies the backing
+   * array first. The other list then is the only one using the original backing array, and
+   * modifies it without copying. A clone which is never modified, nor the list it was cloned
+   * from, therefore never costs more than the clone itself.
+   *
    * @return a clone of this instance, never {@code null}
    */
   @Override
@@ -649,8 +2062,12 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
       @SuppressWarnings("unchecked")
       ShiftList<E> clone = (ShiftList<E>)super.clone();
 
-      clone.data = Arrays.copyOf(this.data, this.data.length);
-      clone.rotations = Arrays.copyOf(this.rotations, this.rotations.length);
+      if(owners == null) {
+        owners = new AtomicInteger(1);
+      }
+
+      owners.incrementAndGet();  // the arrays are copied by whichever list modifies them first
+      clone.owners = owners;  // the old backing array of a growth in progress is never modified, and so is not copied at all
 
       return clone;
     }
@@ -659,11 +2076,151 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
     }
   }
 
+  /**
+   * Copies the backing array and rotations if they are shared with a clone which
+   * still uses them, so they can be modified.
+   */
+  private void unshare() {
+    if(owners != null) {
+      if(owners.get() > 1) {
+        this.data = Arrays.copyOf(data, data.length);
+        this.rotations = Arrays.copyOf(rotations, rotations.length);
+      }
+
+      release();  // only after copying, as the last remaining owner modifies the arrays in place
+    }
+  }
+
+  /**
+   * Stops sharing the backing array and rotations with clones, once this list
+   * no longer uses them.
+   */
+  private void release() {
+    if(owners != null) {
+      owners.decrementAndGet();
+
+      this.owners = null;
+    }
+  }
+
+  /**
+   * Writes the size of this list followed by its elements in order, and the
+   * overflow policy if the list is bounded.
+   *
+   * @param out the stream to write to, cannot be {@code null}
+   * @throws IOException if an I/O error occurs
+   */
+  @Serial
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    int expectedModCount = modCount;
+
+    out.defaultWriteObject();
+    out.writeInt(size);
+
+    for(int i = 0; i < size; i++) {
+      out.writeObject(elementAt(i));
+    }
+
+    if(overflowPolicy != null) {
+      out.writeObject(overflowPolicy);
+    }
+
+    if(modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Reads the size, elements and overflow policy written by {@link #writeObject(ObjectOutputStream)},
+   * storing the elements in order from the start of a backing array fitting the size.
+   *
+   * @param in the stream to read from, cannot be {@code null}
+   * @throws IOException if an I/O error occurs
+   * @throws ClassNotFoundException if the class of an element cannot be found
+   */
+  @Serial
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+
+    int size = in.readInt();
+
+    if(size < 0 || size > MAX_CAPACITY) {
+      throw new InvalidObjectException("Invalid size: " + size);
+    }
+    if(minimumLength < MIN_SIZE || minimumLength > 1 << 30 || Integer.bitCount(minimumLength) != 1) {
+      throw new InvalidObjectException("Invalid minimum length: " + minimumLength);
+    }
+    if(maximumSize < Math.max(1, size)) {
+      throw new InvalidObjectException("Invalid maximum size: " + maximumSize);
+    }
+
+    reset();
+
+    if(size > 0) {
+      int length = capacityFor(size);
+
+      @SuppressWarnings("unchecked")
+      E[] data = (E[]) new Object[length];
+
+      for(int i = 0; i < size; i++) {
+        @SuppressWarnings("unchecked")
+        E element = (E)in.readObject();
+
+        data[i] = element;
+      }
+
+      this.shift = SHIFTS[Integer.numberOfTrailingZeros(length)];
+      this.data = data;
+      this.rotations = new int[length >> shift];
+      this.size = size;
+    }
+
+    if(maximumSize != Integer.MAX_VALUE) {
+      if(!(in.readObject() instanceof OverflowPolicy policy)) {
+        throw new InvalidObjectException("Missing overflow policy for maximum size: " + maximumSize);
+      }
+
+      this.overflowPolicy = policy;
+    }
+  }
+
   @Override
   public boolean isEmpty() {
     return size == 0;
   }
 
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr(0);
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    Objects.checkIndex(index, size + 1);
+
+    return new Itr(index);
+  }
+
+  /**
+   * Creates a <em>late-binding</em> and <em>fail-fast</em> {@link Spliterator} over the
+   * elements in this list.
+   *
+   * <p>The {@code Spliterator} reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}
+   * and {@link Spliterator#ORDERED}. Splits are made on block boundaries, so each split
+   * covers whole blocks of the backing array (except possibly the first and last), and
+   * traversal walks the contiguous runs of each block directly.
+   *
+   * @return a {@code Spliterator} over the elements in this list, never {@code null}
+   */
+  @Override
+  public Spliterator<E> spliterator() {
+    return new BlockSpliterator(0, -1, 0, false);
+  }
+
+  private Spliterator<E> descendingSpliterator() {
+    return new BlockSpliterator(0, -1, 0, true);
+  }
+
   private void moveOffsetLeft() {
     int mask = data.length - 1;
 
@@ -686,10 +2243,30 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
     return baseIndex | ((rotations[block] + position) & blockMask);
   }
 
-  private int toPosition(int index) {
+  private E elementAt(int index) {
+    int position = toPosition(index);
+
+    if(oldData != null) {
+      return elementAtWhileGrowing(position);
+    }
+
+    int blockMask = (1 << shift) - 1;
+
+    return data[(position & ~blockMask) | ((rotations[position >> shift] + position) & blockMask)];
+  }
+
+  int toPosition(int index) {
     int mask = data.length - 1;
 
-    return (index + offset) & mask;
+    return (index + offset) & mask;
+  }
+
+  int blockSize() {
+    return 1 << shift;
+  }
+
+  boolean isGrowing() {
+    return oldData != null;
   }
 
   String dataToString() {
@@ -703,6 +2280,12 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
     final int BLOCK_MASK = BLOCK_SIZE - 1;
 
     for(int j = 0; j < data.length; j += BLOCK_SIZE) {
+      if(rotations[j >> BLOCK_SHIFT] < 0) {
+        sb.append("[not migrated]");
+
+        continue;
+      }
+
       sb.append("[");
 
       for(int i = j; i < j + Math.min(data.length, BLOCK_SIZE); i++) {
@@ -736,6 +2319,135 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
     return sb.toString();
   }
 
+  /**
+   * Moves a range of elements to a different location in the list, taking into
+   * account the current block layout. The ranges may overlap. Indices may be
+   * outside the range of valid indices as long as the ranges span less than
+   * the capacity of the backing array. The locations which are only part of the
+   * source range retain their values.
+   *
+   * @param from the index of the first element to move
+   * @param to the index where the first element should be moved to
+   * @param count the number of elements to move
+   */
+  private void moveRange(int from, int to, int count) {
+    if(count <= 0 || from == to) {
+      return;
+    }
+
+    final E[] data = this.data;
+    final int[] rotations = this.rotations;
+    final int offset = this.offset;
+    final int mask = data.length - 1;
+    final int BLOCK_SHIFT = shift;
+    final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    if(from > to) {  // copy from first to last element
+      for(int i = 0; i < count;) {
+        int sourcePosition = (from + i + offset) & mask;
+        int targetPosition = (to + i + offset) & mask;
+        int sourceIndex = (sourcePosition & ~BLOCK_MASK) | ((rotations[sourcePosition >> BLOCK_SHIFT] + sourcePosition) & BLOCK_MASK);
+        int targetIndex = (targetPosition & ~BLOCK_MASK) | ((rotations[targetPosition >> BLOCK_SHIFT] + targetPosition) & BLOCK_MASK);
+        int length = Math.min(
+          count - i,
+          BLOCK_SIZE - Math.max(
+            Math.max(sourcePosition & BLOCK_MASK, sourceIndex & BLOCK_MASK),
+            Math.max(targetPosition & BLOCK_MASK, targetIndex & BLOCK_MASK)
+          )
+        );
+
+        System.arraycopy(data, sourceIndex, data, targetIndex, length);
+
+        i += length;
+      }
+    }
+    else {  // copy from last to first element
+      for(int i = count; i > 0;) {
+        int sourcePosition = (from + i - 1 + offset) & mask;
+        int targetPosition = (to + i - 1 + offset) & mask;
+        int sourceIndex = (sourcePosition & ~BLOCK_MASK) | ((rotations[sourcePosition >> BLOCK_SHIFT] + sourcePosition) & BLOCK_MASK);
+        int targetIndex = (targetPosition & ~BLOCK_MASK) | ((rotations[targetPosition >> BLOCK_SHIFT] + targetPosition) & BLOCK_MASK);
+        int length = Math.min(
+          i,
+          1 + Math.min(
+            Math.min(sourcePosition & BLOCK_MASK, sourceIndex & BLOCK_MASK),
+            Math.min(targetPosition & BLOCK_MASK, targetIndex & BLOCK_MASK)
+          )
+        );
+
+        System.arraycopy(data, sourceIndex - length + 1, data, targetIndex - length + 1, length);
+
+        i -= length;
+      }
+    }
+  }
+
+  /**
+   * Copies the given elements into the list starting at the given index, taking
+   * into account the current block layout.
+   *
+   * @param elements an array of elements to copy, cannot be {@code null}
+   * @param index the index where the first element should be copied to
+   */
+  private void copyIn(Object[] elements, int index) {
+    final E[] data = this.data;
+    final int mask = data.length - 1;
+    final int BLOCK_SIZE = 1 << shift;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+    final int count = elements.length;
+
+    for(int i = 0; i < count;) {
+      int position = (index + i + offset) & mask;
+      int dataIndex = (position & ~BLOCK_MASK) | ((rotations[position >> shift] + position) & BLOCK_MASK);
+      int length = Math.min(count - i, BLOCK_SIZE - Math.max(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+
+      System.arraycopy(elements, i, data, dataIndex, length);
+
+      i += length;
+    }
+  }
+
+  /**
+   * Sets all locations in the given range to {@code null}, taking into account
+   * the current block layout.
+   *
+   * @param fromIndex the first index to clear, inclusive
+   * @param toIndex the last index to clear, exclusive
+   */
+  private void clearRange(int fromIndex, int toIndex) {
+    final E[] data = this.data;
+    final int mask = data.length - 1;
+    final int BLOCK_SIZE = 1 << shift;
+    final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    for(int i = fromIndex; i < toIndex;) {
+      int position = (i + offset) & mask;
+      int dataIndex = (position & ~BLOCK_MASK) | ((rotations[position >> shift] + position) & BLOCK_MASK);
+      int length = Math.min(toIndex - i, BLOCK_SIZE - Math.max(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+
+      Arrays.fill(data, dataIndex, dataIndex + length, null);
+
+      i += length;
+    }
+  }
+
+  private static <T> void circularCopy(T[] data, int sourceBase, int sourceSlot, int targetBase, int targetSlot, int count, int blockMask) {
+    // copies count elements between two (different) blocks, starting at the given slots, with wrap around within each block
+    int s = sourceSlot;
+    int t = targetSlot;
+
+    for(int leftOver = count; leftOver > 0;) {
+      int length = Math.min(leftOver, blockMask + 1 - Math.max(s, t));
+
+      System.arraycopy(data, sourceBase + s, data, targetBase + t, length);
+
+      s = (s + length) & blockMask;
+      t = (t + length) & blockMask;
+      leftOver -= length;
+    }
+  }
+
   private static <T> void circularShiftRight(T[] data, int offset, int length, int index, int count) {
     // mimics: System.arraycopy(data, index, data, index + 1, count) with wrap around in range [offset, offset + length)
     int leftOver = count;
@@ -781,6 +2493,10 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
 
   @Override
   public boolean offerFirst(E e) {
+    if(size >= maximumSize && overflowPolicy == OverflowPolicy.REJECT) {
+      return false;
+    }
+
     addFirst(e);
 
     return true;
@@ -788,6 +2504,10 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
 
   @Override
   public boolean offerLast(E e) {
+    if(size >= maximumSize && overflowPolicy == OverflowPolicy.REJECT) {
+      return false;
+    }
+
     addLast(e);
 
     return true;
@@ -851,7 +2571,7 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
 
   @Override
   public boolean offer(E e) {
-    return add(e);
+    return offerLast(e);
   }
 
   @Override
@@ -889,15 +2609,454 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
     return reversed().iterator();
   }
 
+  /**
+   * List iterator which walks the list one physical segment at a time. Each
+   * block holds its elements in at most two contiguous runs in the data array
+   * (before and after the block's rotation point). Once the run containing an
+   * element is located, all other elements in that run are reached by a fixed
+   * delta, avoiding the full index to data index translation per element.
+   */
+  private final class Itr implements ListIterator<E> {
+    private int cursor;  // index of next element to return
+    private int lastReturned = -1;  // index of last element returned, or -1 if none
+    private int expectedModCount = modCount;
+
+    /*
+     * Elements with indices in [segmentStart, segmentEnd) are located
+     * at index (index + segmentDelta) of segmentData:
+     */
+
+    private E[] segmentData;
+    private int segmentStart;
+    private int segmentEnd;
+    private int segmentDelta;
+
+    Itr(int index) {
+      this.cursor = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return cursor != size;
+    }
+
+    @Override
+    public E next() {
+      checkForComodification();
+
+      int i = cursor;
+
+      if(i >= size) {
+        throw new NoSuchElementException();
+      }
+
+      if(i >= segmentEnd || i < segmentStart) {
+        locateSegment(i);
+      }
+
+      cursor = i + 1;
+      lastReturned = i;
+
+      return segmentData[i + segmentDelta];
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return cursor != 0;
+    }
+
+    @Override
+    public E previous() {
+      checkForComodification();
+
+      int i = cursor - 1;
+
+      if(i < 0) {
+        throw new NoSuchElementException();
+      }
+
+      if(i >= segmentEnd || i < segmentStart) {
+        locateSegment(i);
+      }
+
+      cursor = i;
+      lastReturned = i;
+
+      return segmentData[i + segmentDelta];
+    }
+
+    @Override
+    public int nextIndex() {
+      return cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+      return cursor - 1;
+    }
+
+    @Override
+    public void remove() {
+      if(lastReturned < 0) {
+        throw new IllegalStateException();
+      }
+
+      checkForComodification();
+
+      try {
+        ShiftList.this.remove(lastReturned);
+      }
+      catch(IndexOutOfBoundsException e) {
+        throw new ConcurrentModificationException();
+      }
+
+      cursor = lastReturned;
+      lastReturned = -1;
+      expectedModCount = modCount;
+
+      invalidateSegment();
+    }
+
+    @Override
+    public void set(E e) {
+      if(lastReturned < 0) {
+        throw new IllegalStateException();
+      }
+
+      checkForComodification();
+
+      if(segmentData == data && owners == null) {
+        segmentData[lastReturned + segmentDelta] = e;  // last returned element is always part of the current segment
+      }
+      else {  // element is still in the old backing array of a growth in progress, or the backing array is shared with a clone
+        ShiftList.this.set(lastReturned, e);
+
+        invalidateSegment();
+      }
+    }
+
+    @Override
+    public void add(E e) {
+      checkForComodification();
+
+      int nextCursor = insertionIndex(cursor) + 1;  // adding to a full bounded list can evict an element before the cursor
+
+      try {
+        ShiftList.this.add(cursor, e);
+      }
+      catch(IndexOutOfBoundsException ex) {
+        throw new ConcurrentModificationException();
+      }
+
+      cursor = nextCursor;
+      lastReturned = -1;
+      expectedModCount = modCount;
+
+      invalidateSegment();
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      Objects.requireNonNull(action);
+
+      final int size = ShiftList.this.size;
+      int i = cursor;
+
+      if(i < size) {
+        while(i < size && modCount == expectedModCount) {
+          locateSegment(i);
+
+          final E[] data = segmentData;
+          final int end = segmentEnd;
+          final int delta = segmentDelta;
+
+          for(; i < end; i++) {
+            action.accept(data[i + delta]);
+          }
+        }
+
+        cursor = i;
+        lastReturned = i - 1;
+
+        checkForComodification();
+      }
+    }
+
+    private void locateSegment(int index) {
+      final int BLOCK_MASK = (1 << shift) - 1;
+      final int position = toPosition(index);
+
+      if(oldData != null && rotations[position >> shift] < 0) {
+
+        /*
+         * The block was not migrated yet while growing. The element is read from
+         * the old backing array, one element at a time, as the block may get
+         * migrated before the next element is read.
+         */
+
+        segmentData = oldData;
+        segmentStart = index;
+        segmentEnd = index + 1;
+        segmentDelta = toOldDataIndex(position) - index;
+
+        return;
+      }
+
+      final int dataIndex = (position & ~BLOCK_MASK) | ((rotations[position >> shift] + position) & BLOCK_MASK);
+
+      /*
+       * The run containing the element ends either where the block ends logically
+       * (slot wraps to 0) or where it ends physically (data index wraps to the
+       * block's base), whichever comes first; similarly for the start of the run:
+       */
+
+      final int slot = position & BLOCK_MASK;
+      final int physicalSlot = dataIndex & BLOCK_MASK;
+
+      segmentData = data;
+      segmentStart = Math.max(0, index - Math.min(slot, physicalSlot));
+      segmentEnd = Math.min(size, index + BLOCK_MASK + 1 - Math.max(slot, physicalSlot));
+      segmentDelta = dataIndex - index;
+    }
+
+    private void invalidateSegment() {
+      segmentStart = 0;
+      segmentEnd = 0;
+    }
+
+    private void checkForComodification() {
+      if(modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * Spliterator over a range of indices of this list, in ascending or descending
+   * order. The range is bound to the list's size on first use. When descending,
+   * elements are taken from the end of the range, and the higher part of the
+   * range is split off as the prefix.
+   */
+  private final class BlockSpliterator implements Spliterator<E> {
+    private final boolean descending;
+
+    private int origin;  // lowest index of the range, inclusive
+    private int fence;  // highest index of the range, exclusive; -1 until first use
+    private int expectedModCount;  // initialized when fence is set
+
+    BlockSpliterator(int origin, int fence, int expectedModCount, boolean descending) {
+      this.origin = origin;
+      this.fence = fence;
+      this.expectedModCount = expectedModCount;
+      this.descending = descending;
+    }
+
+    private int getFence() {  // initialize fence to size on first use
+      int hi = fence;
+
+      if(hi < 0) {
+        expectedModCount = modCount;
+        hi = fence = size;
+      }
+
+      return hi;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      int hi = getFence();
+      int lo = origin;
+      int blockSize = 1 << shift;
+      int mid = (lo + hi) >>> 1;
+
+      mid -= (mid + offset) & (blockSize - 1);  // align to the start of the block containing mid
+
+      if(mid <= lo) {
+        mid += blockSize;
+      }
+
+      if(mid >= hi) {
+        return null;
+      }
+
+      if(descending) {
+        fence = mid;
+
+        return new BlockSpliterator(mid, hi, expectedModCount, true);
+      }
+
+      origin = mid;
+
+      return new BlockSpliterator(lo, mid, expectedModCount, false);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      Objects.requireNonNull(action);
+
+      int hi = getFence();
+      int lo = origin;
+
+      if(lo >= hi) {
+        return false;
+      }
+
+      E e;
+
+      if(descending) {
+        fence = hi - 1;
+        e = elementAt(hi - 1);
+      }
+      else {
+        origin = lo + 1;
+        e = elementAt(lo);
+      }
+
+      action.accept(e);
+
+      if(modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      Objects.requireNonNull(action);
+
+      final int hi = getFence();
+      final int lo = origin;
+
+      if(lo >= hi) {
+        return;
+      }
+
+      origin = hi;  // exhaust this spliterator
+      fence = hi;
+
+      final E[] data = ShiftList.this.data;
+      final int[] rotations = ShiftList.this.rotations;
+      final int offset = ShiftList.this.offset;
+      final int mask = data.length - 1;
+      final int BLOCK_SHIFT = shift;
+      final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+      final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+      /*
+       * While growing, blocks which were not migrated yet are read from the old
+       * backing array one element at a time, as the block may get migrated before
+       * the next element is read:
+       */
+
+      if(descending) {
+        for(int i = hi - 1; i >= lo;) {
+          int position = (i + offset) & mask;
+          int rotation = rotations[position >> BLOCK_SHIFT];
+
+          if(rotation < 0) {
+            action.accept(oldData[toOldDataIndex(position)]);
+            i--;
+
+            continue;
+          }
+
+          int dataIndex = (position & ~BLOCK_MASK) | ((rotation + position) & BLOCK_MASK);
+          int end = dataIndex - Math.min(i - lo, Math.min(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+
+          i -= dataIndex - end + 1;
+
+          for(int j = dataIndex; j >= end; j--) {
+            action.accept(data[j]);
+          }
+        }
+      }
+      else {
+        for(int i = lo; i < hi;) {
+          int position = (i + offset) & mask;
+          int rotation = rotations[position >> BLOCK_SHIFT];
+
+          if(rotation < 0) {
+            action.accept(oldData[toOldDataIndex(position)]);
+            i++;
+
+            continue;
+          }
+
+          int dataIndex = (position & ~BLOCK_MASK) | ((rotation + position) & BLOCK_MASK);
+          int end = dataIndex + Math.min(hi - i, BLOCK_SIZE - Math.max(position & BLOCK_MASK, dataIndex & BLOCK_MASK));
+
+          i += end - dataIndex;
+
+          for(int j = dataIndex; j < end; j++) {
+            action.accept(data[j]);
+          }
+        }
+      }
+
+      if(modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return getFence() - origin;
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+  }
+
+  /**
+   * Determines what happens when an element is added to a full list created with
+   * {@link ShiftList#bounded(int, OverflowPolicy)}. The first and last elements are
+   * considered the oldest and newest elements, except that when an element is added
+   * at the start of the list (with {@link ShiftList#addFirst(Object)}, or at index 0)
+   * the roles are mirrored. Elements added in bulk are added one at a time.
+   *
+   * <p>Adding elements through a {@link ShiftList#subList(int, int) subList} view of a
+   * full list which evicts elements is not supported, and leaves the view in an
+   * undefined state.
+   */
+  public enum OverflowPolicy {
+
+    /**
+     * Rejects the element. Methods adding elements throw an {@link IllegalStateException},
+     * except for the {@code offer} methods of the {@link Deque} interface, which return
+     * {@code false}. A bulk addition which does not fit is rejected entirely.
+     */
+    REJECT,
+
+    /**
+     * Evicts the oldest element to make room for the element. Adding at the end of the
+     * list evicts the first element, and adding at the start evicts the last element,
+     * without moving any other elements. Adding elsewhere evicts the first element.
+     */
+    OVERWRITE_OLDEST,
+
+    /**
+     * Evicts the newest element to make room for the element. Adding at the end of the
+     * list replaces the last element, and adding at the start replaces the first element.
+     * Adding elsewhere evicts the last element.
+     */
+    OVERWRITE_NEWEST
+  }
+
   @Override
   public ShiftList<E> reversed() {
     return new ReverseOrderShiftListView<>(this, super.reversed(), Deque.super.reversed());
   }
 
   static final class ReverseOrderShiftListView<E> extends ShiftList<E> {
-    final ShiftList<E> originalList;
-    final List<E> reversedList;
-    final Deque<E> reversedDeque;
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    final transient ShiftList<E> originalList;
+    final transient List<E> reversedList;
+    final transient Deque<E> reversedDeque;
 
     ReverseOrderShiftListView(ShiftList<E> originalList, List<E> reversedList, Deque<E> reversedDeque) {
       this.originalList = originalList;
@@ -905,11 +3064,37 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
       this.reversedDeque = reversedDeque;
     }
 
+    /**
+     * Replaces this view with a list holding its elements in the order of the view,
+     * as the view itself holds no elements.
+     *
+     * @return a {@link ShiftList} with the elements of this view, never {@code null}
+     */
+    @Serial
+    private Object writeReplace() {
+      return new ShiftList<>(this);
+    }
+
     @Override
     public ShiftList<E> reversed() {
       return originalList;
     }
 
+    @Override
+    public void ensureCapacity(int minCapacity) {
+      originalList.ensureCapacity(minCapacity);
+    }
+
+    @Override
+    public void trimToSize() {
+      originalList.trimToSize();
+    }
+
+    @Override
+    public void normalize() {
+      originalList.normalize();
+    }
+
     @Override
     public boolean retainAll(Collection<?> c) {
       return reversedList.retainAll(c);
@@ -932,12 +3117,12 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
 
     @Override
     public Stream<E> parallelStream() {
-      return reversedList.parallelStream();
+      return StreamSupport.stream(spliterator(), true);
     }
 
     @Override
     public Stream<E> stream() {
-      return reversedList.stream();
+      return StreamSupport.stream(spliterator(), false);
     }
 
     @Override
@@ -992,7 +3177,7 @@ public sealed class ShiftList<E> extends AbstractList<E> implements Deque<E>, Ra
 
     @Override
     public Spliterator<E> spliterator() {
-      return reversedList.spliterator();
+      return originalList.descendingSpliterator();
     }
 
     @Override
@@ -0,0 +1,416 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.int4.common.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A list which keeps its elements sorted according to a {@link Comparator}, backed by a
+ * {@link ShiftList}. Elements are inserted with {@link #insert(Object)}, which finds the
+ * insertion point with a binary search and then inserts the element with the costs of a
+ * {@code ShiftList} insertion. Elements which compare equal are kept in insertion order.
+ *
+ * <p>Unlike a {@link java.util.TreeSet} or {@link java.util.TreeMap}, elements are addressable
+ * by their index in constant time, and the list only needs a single reference per element
+ * (plus the unused capacity of its backing array) instead of a node per element, which also
+ * makes iteration much faster. Searches, such as {@link #indexOf(Object)}, {@link #rank(Object)},
+ * {@link #floor(Object)} and {@link #ceiling(Object)}, are binary searches.
+ *
+ * <p>As the order of the elements is determined by the comparator, this list does not support
+ * adding or replacing elements at a given index; {@link #add(Object)}, {@link #add(int, Object)}
+ * and {@link #set(int, Object)} throw {@link UnsupportedOperationException}. Removals are
+ * supported. The results are undefined if elements are modified in a way which affects their
+ * order while they are part of this list.
+ *
+ * <p>This class is <strong>not thread-safe</strong>. Iterators are fail-fast.
+ *
+ * @param <E> the type of elements in this list
+ * @see ShiftList
+ * @author John Hendrikx
+ */
+public final class SortedShiftList<E> extends AbstractList<E> implements RandomAccess {
+  private final Comparator<? super E> comparator;
+
+  private final ShiftList<E> list = new ShiftList<>();
+
+  /**
+   * Constructs a new empty list which sorts its elements according to their
+   * {@linkplain Comparable natural ordering}.
+   */
+  @SuppressWarnings("unchecked")
+  public SortedShiftList() {
+    this((Comparator<? super E>)Comparator.naturalOrder());
+  }
+
+  /**
+   * Constructs a new empty list which sorts its elements with the given comparator.
+   *
+   * @param comparator a {@link Comparator}, cannot be {@code null}
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public SortedShiftList(Comparator<? super E> comparator) {
+    this.comparator = Objects.requireNonNull(comparator, "comparator");
+  }
+
+  /**
+   * Returns the comparator which determines the order of the elements.
+   *
+   * @return the comparator, never {@code null}
+   */
+  public Comparator<? super E> comparator() {
+    return comparator;
+  }
+
+  @Override
+  public int size() {
+    return list.size();
+  }
+
+  @Override
+  public E get(int index) {
+    return list.get(index);
+  }
+
+  /**
+   * Inserts the given element in sort order, after any elements which compare equal to it.
+   *
+   * @param element an element to insert
+   * @return the index at which the element was inserted
+   * @throws ClassCastException if the element cannot be compared with the elements in this list
+   * @throws NullPointerException if the element is {@code null} and the comparator does not permit {@code null}s
+   */
+  public int insert(E element) {
+    int index = upperBound(element);
+
+    list.add(index, element);
+    modCount++;
+
+    return index;
+  }
+
+  /**
+   * Inserts all elements of the given collection, which must already be sorted according to
+   * the comparator of this list, in a single pass over both. Elements of the collection are
+   * placed after any elements of this list which compare equal to them. This is faster than
+   * inserting the elements one by one when the collection is not small compared to this list.
+   * Only the elements of this list which are greater than the first element of the collection
+   * are moved; they are merged with the collection directly into the backing list.
+   *
+   * <p>This list is not modified when an exception is thrown.
+   *
+   * @param sortedElements a {@link Collection} of elements in sort order, cannot be {@code null}
+   * @throws ClassCastException if the elements cannot be compared with the elements in this list
+   * @throws IllegalArgumentException if the elements of the collection are not sorted
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  public void merge(Collection<? extends E> sortedElements) {
+    @SuppressWarnings("unchecked")
+    E[] batch = (E[])sortedElements.toArray();
+
+    if(batch.length == 0) {
+      return;
+    }
+
+    for(int i = 1; i < batch.length; i++) {
+      if(comparator.compare(batch[i - 1], batch[i]) > 0) {
+        throw new IllegalArgumentException("Elements are not sorted at index " + i + ": " + batch[i - 1] + " > " + batch[i]);
+      }
+    }
+
+    int size = list.size();
+    int start = upperBound(batch[0]);  // elements before this index stay in place
+    List<E> tailView = list.subList(start, size);
+
+    @SuppressWarnings("unchecked")
+    E[] tail = (E[])tailView.toArray();
+
+    tailView.clear();
+    list.ensureCapacity(size + batch.length);
+
+    try {
+      int t = 0;
+      int b = 0;
+
+      while(t < tail.length && b < batch.length) {
+        list.addLast(comparator.compare(batch[b], tail[t]) < 0 ? batch[b++] : tail[t++]);
+      }
+
+      while(t < tail.length) {
+        list.addLast(tail[t++]);
+      }
+
+      while(b < batch.length) {
+        list.addLast(batch[b++]);
+      }
+    }
+    catch(RuntimeException e) {
+      list.subList(start, list.size()).clear();  // restore the original elements
+      list.addAll(Arrays.asList(tail));
+
+      throw e;
+    }
+
+    modCount++;
+  }
+
+  /**
+   * Returns the number of elements which are less than the given element, which is
+   * also the index of the first element which is not less than the given element.
+   *
+   * @param element an element to compare with
+   * @return the number of elements less than the given element
+   * @throws ClassCastException if the element cannot be compared with the elements in this list
+   * @throws NullPointerException if the element is {@code null} and the comparator does not permit {@code null}s
+   */
+  public int rank(E element) {
+    return lowerBound(element);
+  }
+
+  /**
+   * Returns the greatest element which is less than or equal to the given element,
+   * or {@code null} if there is no such element.
+   *
+   * @param element an element to compare with
+   * @return the greatest element less than or equal to the given element, or {@code null} if there is none
+   * @throws ClassCastException if the element cannot be compared with the elements in this list
+   * @throws NullPointerException if the element is {@code null} and the comparator does not permit {@code null}s
+   */
+  public E floor(E element) {
+    int index = upperBound(element) - 1;
+
+    return index < 0 ? null : list.get(index);
+  }
+
+  /**
+   * Returns the least element which is greater than or equal to the given element,
+   * or {@code null} if there is no such element.
+   *
+   * @param element an element to compare with
+   * @return the least element greater than or equal to the given element, or {@code null} if there is none
+   * @throws ClassCastException if the element cannot be compared with the elements in this list
+   * @throws NullPointerException if the element is {@code null} and the comparator does not permit {@code null}s
+   */
+  public E ceiling(E element) {
+    int index = lowerBound(element);
+
+    return index == list.size() ? null : list.get(index);
+  }
+
+  /**
+   * Returns the index of the first element equal to the given object, found with a
+   * binary search for the elements which compare equal to it.
+   *
+   * @throws ClassCastException if the object cannot be compared with the elements in this list
+   */
+  @Override
+  public int indexOf(Object o) {
+    @SuppressWarnings("unchecked")
+    E element = (E)o;
+    int end = upperBound(element);
+
+    for(int i = lowerBound(element); i < end; i++) {
+      if(Objects.equals(o, list.get(i))) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns the index of the last element equal to the given object, found with a
+   * binary search for the elements which compare equal to it.
+   *
+   * @throws ClassCastException if the object cannot be compared with the elements in this list
+   */
+  @Override
+  public int lastIndexOf(Object o) {
+    @SuppressWarnings("unchecked")
+    E element = (E)o;
+    int start = lowerBound(element);
+
+    for(int i = upperBound(element) - 1; i >= start; i--) {
+      if(Objects.equals(o, list.get(i))) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) >= 0;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    int index = indexOf(o);
+
+    if(index < 0) {
+      return false;
+    }
+
+    remove(index);
+
+    return true;
+  }
+
+  @Override
+  public E remove(int index) {
+    E element = list.remove(index);
+
+    modCount++;
+
+    return element;
+  }
+
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    list.subList(fromIndex, toIndex).clear();
+    modCount++;
+  }
+
+  @Override
+  public void clear() {
+    list.clear();
+    modCount++;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr(list.iterator());
+  }
+
+  /**
+   * Creates a fail-fast {@link Spliterator} over the elements of this list, which
+   * iterates over the blocks of the backing {@link ShiftList} directly.
+   *
+   * @return a spliterator, never {@code null}
+   */
+  @Override
+  public Spliterator<E> spliterator() {
+    return list.spliterator();
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    list.forEach(action);
+  }
+
+  @Override
+  public Object[] toArray() {
+    return list.toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    return list.toArray(a);
+  }
+
+  /**
+   * Iterator over the backing list which keeps the modification count of this list
+   * in step when elements are removed through it.
+   */
+  private final class Itr implements Iterator<E> {
+    private final Iterator<E> iterator;
+
+    Itr(Iterator<E> iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public E next() {
+      return iterator.next();
+    }
+
+    @Override
+    public void remove() {
+      iterator.remove();
+      modCount++;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      iterator.forEachRemaining(action);
+    }
+  }
+
+  /**
+   * Returns the index of the first element which is not less than the given element.
+   */
+  private int lowerBound(E element) {
+    int low = 0;
+    int high = list.size();
+
+    while(low < high) {
+      int mid = (low + high) >>> 1;
+
+      if(comparator.compare(list.get(mid), element) < 0) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * Returns the index of the first element which is greater than the given element.
+   */
+  private int upperBound(E element) {
+    int low = 0;
+    int high = list.size();
+
+    while(low < high) {
+      int mid = (low + high) >>> 1;
+
+      if(comparator.compare(list.get(mid), element) <= 0) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+}
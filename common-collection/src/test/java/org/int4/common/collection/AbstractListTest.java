@@ -25,11 +25,14 @@
 package org.int4.common.collection;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Nested;
@@ -558,6 +561,86 @@ public abstract class AbstractListTest {
       }
     }
 
+    @Test
+    void stressTestRandomBulkInsertions() {
+      for(int i = 0; i < OPERATIONS / 100; i++) {
+        int index = random.nextInt(referenceList.size() + 1);
+        int count = random.nextInt(4) == 0 ? random.nextInt(200) : random.nextInt(8);
+        List<String> elements = new ArrayList<>();
+
+        for(int j = 0; j < count; j++) {
+          elements.add(STRINGS[(i + j) % OPERATIONS]);
+        }
+
+        assertThat(testList.addAll(index, elements)).isEqualTo(referenceList.addAll(index, elements));
+
+        assertThat(testList)
+          .as("index = " + index + "; count = " + count + "; op = " + i)
+          .isEqualTo(referenceList);
+      }
+    }
+
+    @Test
+    void stressTestRandomRangeRemovals() {
+      for(int i = 0; i < OPERATIONS; i++) {
+        String s = STRINGS[i];
+
+        testList.add(s);
+        referenceList.add(s);
+      }
+
+      while(!referenceList.isEmpty()) {
+        int count = Math.min(referenceList.size(), random.nextInt(4) == 0 ? random.nextInt(200) : random.nextInt(8));
+        int index = random.nextInt(referenceList.size() - count + 1);
+
+        testList.subList(index, index + count).clear();
+        referenceList.subList(index, index + count).clear();
+
+        assertThat(testList)
+          .as("index = " + index + "; count = " + count)
+          .isEqualTo(referenceList);
+      }
+    }
+
+    @Test
+    void stressTestRandomFiltering() {
+      for(int i = 0; i < OPERATIONS / 100; i++) {
+        int count = random.nextInt(4) == 0 ? random.nextInt(2000) : random.nextInt(50);
+
+        for(int j = 0; j < count; j++) {
+          String s = STRINGS[(i + j) % OPERATIONS];
+          int index = random.nextInt(referenceList.size() + 1);
+
+          testList.add(index, s);
+          referenceList.add(index, s);
+        }
+
+        int divisor = 2 + random.nextInt(10);
+        int remainder = random.nextInt(divisor);
+        double d = random.nextDouble();
+
+        if(d < 0.4) {
+          Predicate<String> filter = s -> s.hashCode() % divisor == remainder;
+
+          assertThat(testList.removeIf(filter)).isEqualTo(referenceList.removeIf(filter));
+        }
+        else if(d < 0.8) {
+          Set<String> strings = new HashSet<>(referenceList.subList(0, random.nextInt(referenceList.size() + 1)));
+
+          assertThat(testList.removeAll(strings)).isEqualTo(referenceList.removeAll(strings));
+        }
+        else {
+          Set<String> strings = new HashSet<>(referenceList.subList(0, random.nextInt(referenceList.size() + 1)));
+
+          assertThat(testList.retainAll(strings)).isEqualTo(referenceList.retainAll(strings));
+        }
+
+        assertThat(testList)
+          .as("op = " + i)
+          .isEqualTo(referenceList);
+      }
+    }
+
     @Test
     void stressTestRandomRemovals() {
       for(int i = 0; i < OPERATIONS; i++) {
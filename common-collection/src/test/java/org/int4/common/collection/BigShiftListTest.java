@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package org.int4.common.collection;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BigShiftListTest {
+
+  @Test
+  void randomModificationsShouldMatchArrayList() {
+    Random rnd = new Random(1);
+
+    for(int chunkSize : new int[] {1, 2, 7, 64}) {
+      BigShiftList<Integer> list = new BigShiftList<>(chunkSize);  // small chunks to involve many chunks
+      List<Integer> reference = new ArrayList<>();
+
+      for(int i = 0; i < 20000; i++) {
+        int size = reference.size();
+        int choice = rnd.nextInt(10);
+
+        if(choice < 6 || size == 0) {
+          int index = choice == 0 ? 0 : choice == 1 ? size : rnd.nextInt(size + 1);
+          Integer element = i % 5 == 0 ? null : i;
+
+          list.add(index, element);
+          reference.add(index, element);
+        }
+        else if(choice < 7) {
+          int index = rnd.nextInt(size);
+
+          assertThat(list.set(index, -i)).isEqualTo(reference.set(index, -i));
+        }
+        else {
+          int index = choice == 7 ? 0 : choice == 8 ? size - 1 : rnd.nextInt(size);
+
+          assertThat(list.remove(index)).isEqualTo(reference.remove(index));
+        }
+      }
+
+      assertThat(list.size64()).isEqualTo(reference.size());
+      assertThat(list).containsExactlyElementsOf(reference);
+
+      for(int i = 0; i < reference.size(); i++) {
+        assertThat(list.get(i)).isEqualTo(reference.get(i));
+      }
+    }
+  }
+
+  @Test
+  void dequeOperationsShouldWorkAtBothEnds() {
+    BigShiftList<Integer> list = new BigShiftList<>(3);
+
+    for(int i = 0; i < 10; i++) {
+      list.addFirst(-i);
+      list.addLast(i);
+    }
+
+    assertThat(list.size64()).isEqualTo(20);
+    assertThat(list.getFirst()).isEqualTo(-9);
+    assertThat(list.getLast()).isEqualTo(9);
+    assertThat(list.removeFirst()).isEqualTo(-9);
+    assertThat(list.removeLast()).isEqualTo(9);
+    assertThat(list.stream().mapToInt(Integer::intValue).sum()).isZero();
+
+    list.clear();
+
+    assertThat(list.isEmpty()).isTrue();
+    assertThat(list.toString()).isEqualTo("[]");
+    assertThatThrownBy(list::getFirst).isInstanceOf(NoSuchElementException.class);
+    assertThatThrownBy(list::removeLast).isInstanceOf(NoSuchElementException.class);
+    assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> list.add(1, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void iteratorShouldFailFastOnConcurrentModification() {
+    BigShiftList<Integer> list = new BigShiftList<>();
+
+    list.add(1);
+    list.add(2);
+
+    Iterator<Integer> iterator = list.iterator();
+
+    iterator.next();
+    list.addFirst(0);
+
+    assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+  }
+}
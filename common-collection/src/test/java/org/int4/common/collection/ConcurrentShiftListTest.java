@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package org.int4.common.collection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConcurrentShiftListTest {
+
+  @Test
+  void readersShouldNeverObserveInconsistentStates() throws InterruptedException {
+    ConcurrentShiftList<Integer> list = new ConcurrentShiftList<>();
+
+    for(int i = 0; i < 10000; i++) {
+      list.add(i);
+    }
+
+    AtomicBoolean stop = new AtomicBoolean();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    List<Thread> threads = new ArrayList<>();
+
+    for(int t = 0; t < 3; t++) {
+      Random rnd = new Random(t);
+
+      threads.add(new Thread(() -> {
+        try {
+          while(!stop.get()) {
+            Integer element = list.get(rnd.nextInt(5000));  // size never drops below 5000
+
+            if(element == null || element < 0) {  // free slots are null, so an unvalidated read could return one
+              throw new AssertionError("Unexpected element: " + element);
+            }
+          }
+        }
+        catch(Throwable e) {
+          failure.set(e);
+        }
+      }));
+    }
+
+    for(Thread thread : threads) {
+      thread.start();
+    }
+
+    Random rnd = new Random(42);
+
+    for(int i = 0; i < 200000; i++) {
+      if(list.size() < 5000 + 2 || rnd.nextBoolean()) {
+        list.add(rnd.nextInt(list.size() + 1), i);  // growth and shrinking replace the backing array
+      }
+      else {
+        list.remove(rnd.nextInt(list.size()));
+      }
+
+      if(i % 50000 == 0) {
+        list.subList(5000, list.size()).clear();
+      }
+    }
+
+    stop.set(true);
+
+    for(Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(failure.get()).isNull();
+  }
+
+  @Test
+  void iteratorsShouldIterateOverSnapshot() {
+    ConcurrentShiftList<Integer> list = new ConcurrentShiftList<>(List.of(1, 2, 3));
+    Iterator<Integer> iterator = list.iterator();
+
+    list.addFirst(0);
+    list.removeLast();
+
+    assertThat(iterator.next()).isEqualTo(1);
+    assertThat(list).containsExactly(0, 1, 2);
+    assertThatThrownBy(iterator::remove).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> list.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void bulkOperationsShouldModifyTheList() {
+    ConcurrentShiftList<Integer> list = new ConcurrentShiftList<>(List.of(5, 3, 1, 4, 2));
+
+    list.sort(Comparator.naturalOrder());
+
+    assertThat(list).containsExactly(1, 2, 3, 4, 5);
+
+    list.replaceAll(e -> e * 10);
+
+    assertThat(list).containsExactly(10, 20, 30, 40, 50);
+    assertThat(list.removeIf(e -> e == 30)).isTrue();
+    assertThat(list.removeAll(List.of(10, 99))).isTrue();
+    assertThat(list.retainAll(List.of(20, 50))).isTrue();
+    assertThat(list).containsExactly(20, 50);
+    assertThat(list.retainAll(list)).isFalse();
+    assertThat(list.removeAll(list)).isTrue();
+    assertThat(list).isEmpty();
+  }
+
+  @Test
+  void searchesAndStreamsShouldSeeTheList() {
+    ConcurrentShiftList<Integer> list = new ConcurrentShiftList<>(List.of(1, 2, 3, 2));
+    ConcurrentShiftList<Integer> copy = new ConcurrentShiftList<>(list);
+
+    assertThat(list.contains(3)).isTrue();
+    assertThat(list.indexOf(2)).isEqualTo(1);
+    assertThat(list.lastIndexOf(2)).isEqualTo(3);
+    assertThat(list).isEqualTo(copy).isEqualTo(List.of(1, 2, 3, 2));
+    assertThat(list.hashCode()).isEqualTo(List.of(1, 2, 3, 2).hashCode());
+
+    Stream<Integer> stream = list.stream();
+
+    list.clear();
+
+    assertThat(stream.toList()).containsExactly(1, 2, 3, 2);  // the stream was created from a snapshot
+  }
+}
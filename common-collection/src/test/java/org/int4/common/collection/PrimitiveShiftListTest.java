@@ -0,0 +1,322 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.int4.common.collection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PrimitiveShiftListTest {
+
+  @Test
+  void randomModificationsShouldMatchArrayList() {
+    Random rnd = new Random(1);
+    LongShiftList list = new LongShiftList();
+    List<Long> reference = new ArrayList<>();
+
+    for(int i = 0; i < 200000; i++) {
+      int size = reference.size();
+      int choice = rnd.nextInt(10);
+
+      if(choice < 6 || size == 0) {
+        int index = choice == 0 ? 0 : choice == 1 ? size : rnd.nextInt(size + 1);
+
+        list.addLong(index, i);
+        reference.add(index, (long)i);
+      }
+      else if(choice < 7) {
+        int index = rnd.nextInt(size);
+
+        assertThat(list.setLong(index, -i)).isEqualTo(reference.set(index, (long)-i));
+      }
+      else {
+        int index = choice == 7 ? 0 : choice == 8 ? size - 1 : rnd.nextInt(size);
+
+        assertThat(list.removeLong(index)).isEqualTo(reference.remove(index));
+      }
+    }
+
+    assertThat(list.asList()).isEqualTo(reference);
+
+    while(!reference.isEmpty()) {  // shrinks the backing array repeatedly
+      assertThat(list.removeLong(reference.size() / 3)).isEqualTo(reference.remove(reference.size() / 3));
+    }
+
+    assertThat(list.isEmpty()).isTrue();
+  }
+
+  @Test
+  void offHeapListShouldMatchArrayList() {
+    try(OffHeapLongShiftList list = new OffHeapLongShiftList()) {
+      assertMatchesArrayList(list);
+    }
+  }
+
+  @Test
+  void offHeapListShouldMatchArrayListWhenSpreadOverSeveralBuffers() {
+    try(OffHeapLongShiftList list = new OffHeapLongShiftList(5)) {
+      assertMatchesArrayList(list);
+    }
+  }
+
+  private static void assertMatchesArrayList(OffHeapLongShiftList list) {
+    Random rnd = new Random(2);
+    List<Long> reference = new ArrayList<>();
+
+    for(int i = 0; i < 100000; i++) {
+      int size = reference.size();
+
+      if(rnd.nextInt(3) != 0 || size == 0) {
+        int index = rnd.nextInt(size + 1);
+
+        list.addLong(index, i);
+        reference.add(index, (long)i);
+      }
+      else {
+        int index = rnd.nextInt(size);
+
+        assertThat(list.removeLong(index)).isEqualTo(reference.remove(index));
+      }
+    }
+
+    assertThat(list.stream().boxed().toList()).isEqualTo(reference);
+    assertThat(list.toArray()).containsExactly(reference.stream().mapToLong(Long::longValue).toArray());
+
+    list.close();
+
+    assertThat(list.isEmpty()).isTrue();
+    assertThatThrownBy(() -> list.addLong(1)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void mappedListShouldRetainValuesWhenReopened(@TempDir Path directory) throws IOException {
+    Random rnd = new Random(3);
+    Path path = directory.resolve("list.bin");
+    List<Long> reference = new ArrayList<>();
+
+    try(MappedLongShiftList list = MappedLongShiftList.open(path)) {
+      for(int i = 0; i < 50000; i++) {
+        int size = reference.size();
+
+        if(rnd.nextInt(3) != 0 || size == 0) {
+          int index = rnd.nextInt(size + 1);
+
+          list.addLong(index, i);
+          reference.add(index, (long)i);
+        }
+        else {
+          int index = rnd.nextInt(size);
+
+          assertThat(list.removeLong(index)).isEqualTo(reference.remove(index));
+        }
+      }
+
+      assertThat(list.stream().boxed().toList()).isEqualTo(reference);
+    }
+
+    try(MappedLongShiftList list = MappedLongShiftList.open(path)) {
+      assertThat(list.stream().boxed().toList()).isEqualTo(reference);  // rotated blocks are restored
+
+      list.addFirstLong(-1);
+      list.removeLastLong();
+      list.force();
+
+      reference.add(0, -1L);
+      reference.remove(reference.size() - 1);
+    }
+
+    try(MappedLongShiftList list = MappedLongShiftList.open(path)) {
+      assertThat(list.toArray()).containsExactly(reference.stream().mapToLong(Long::longValue).toArray());
+
+      list.clear();
+    }
+
+    try(MappedLongShiftList list = MappedLongShiftList.open(path)) {
+      assertThat(list.isEmpty()).isTrue();
+
+      list.close();
+
+      assertThatThrownBy(() -> list.addLong(1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    Files.write(path, new byte[40]);
+
+    assertThatThrownBy(() -> MappedLongShiftList.open(path)).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void mappedListShouldReopenWithValuesMappedInSeveralParts(@TempDir Path directory) throws IOException {
+    Path path = directory.resolve("list.bin");
+    List<Long> reference = new ArrayList<>();
+
+    try(MappedLongShiftList list = MappedLongShiftList.open(path, 5)) {
+      for(int i = 0; i < 5000; i++) {
+        int index = i % 7 == 0 ? 0 : reference.size() / 2;
+
+        list.addLong(index, i);
+        reference.add(index, (long)i);
+      }
+
+      assertThat(list.stream().boxed().toList()).isEqualTo(reference);
+    }
+
+    try(MappedLongShiftList list = MappedLongShiftList.open(path)) {
+      assertThat(list.stream().boxed().toList()).isEqualTo(reference);
+    }
+
+    try(MappedLongShiftList list = MappedLongShiftList.open(path, 3)) {
+      assertThat(list.toArray()).containsExactly(reference.stream().mapToLong(Long::longValue).toArray());
+    }
+  }
+
+  @Test
+  void mappedListShouldDeleteTemporaryFileWhenResizeFails(@TempDir Path directory) throws IOException {
+    Path path = directory.resolve("list.bin");
+
+    try(MappedLongShiftList list = MappedLongShiftList.open(path)) {
+      list.addLong(1);
+
+      Files.delete(path);
+      Files.createDirectories(path.resolve("blocker"));  // a non-empty directory cannot be replaced
+
+      assertThatThrownBy(() -> {
+        while(true) {
+          list.addLong(2);
+        }
+      }).isInstanceOf(UncheckedIOException.class);
+
+      assertThat(directory.resolve("list.bin.tmp")).doesNotExist();
+      assertThat(list.getFirstLong()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void dequeOperationsShouldWorkAtBothEnds() {
+    IntShiftList list = new IntShiftList();
+
+    for(int i = 0; i < 1000; i++) {
+      list.addFirstInt(-i);
+      list.addLastInt(i);
+    }
+
+    assertThat(list.size()).isEqualTo(2000);
+    assertThat(list.getFirstInt()).isEqualTo(-999);
+    assertThat(list.getLastInt()).isEqualTo(999);
+    assertThat(list.removeFirstInt()).isEqualTo(-999);
+    assertThat(list.removeLastInt()).isEqualTo(999);
+
+    list.clear();
+
+    assertThat(list.isEmpty()).isTrue();
+    assertThatThrownBy(list::getFirstInt).isInstanceOf(NoSuchElementException.class);
+    assertThatThrownBy(list::removeLastInt).isInstanceOf(NoSuchElementException.class);
+    assertThatThrownBy(() -> list.getInt(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> list.addInt(1, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void iteratorsStreamsAndArraysShouldReturnValuesInOrder() {
+    DoubleShiftList list = new DoubleShiftList();
+
+    for(int i = 0; i < 10000; i++) {
+      list.addDouble(i / 3, i);  // inserting in the middle rotates blocks
+    }
+
+    double[] array = list.toArray();
+    List<Double> iterated = new ArrayList<>();
+
+    list.iterator().forEachRemaining((double value) -> iterated.add(value));
+
+    assertThat(array).hasSize(10000);
+    assertThat(iterated).isEqualTo(list.asList());
+    assertThat(list.stream().boxed().toList()).isEqualTo(list.asList());
+    assertThat(list.stream().parallel().sum()).isEqualTo(IntStream.range(0, 10000).sum());
+
+    for(int i = 0; i < array.length; i++) {
+      assertThat(array[i]).isEqualTo(list.getDouble(i));
+    }
+  }
+
+  @Test
+  void boxedViewShouldWriteThrough() {
+    IntShiftList list = IntShiftList.of(1, 2, 3);
+    List<Integer> view = list.asList();
+
+    view.add(1, 10);
+    view.remove(Integer.valueOf(3));
+    view.set(0, 5);
+
+    assertThat(list.toString()).isEqualTo("[5, 10, 2]");
+    assertThat(view).containsExactly(5, 10, 2);
+    assertThatThrownBy(() -> view.add(null)).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void iteratorShouldFailFastOnConcurrentModification() {
+    IntShiftList list = IntShiftList.of(1, 2, 3);
+    PrimitiveIterator.OfInt iterator = list.iterator();
+
+    iterator.nextInt();
+    list.addFirstInt(0);
+
+    assertThatThrownBy(iterator::nextInt).isInstanceOf(ConcurrentModificationException.class);
+
+    Iterator<Integer> boxedIterator = list.asList().iterator();
+
+    boxedIterator.next();
+    list.removeLastInt();  // not made through the view
+
+    assertThatThrownBy(boxedIterator::next).isInstanceOf(ConcurrentModificationException.class);
+  }
+
+  @Test
+  void spliteratorShouldBindToSizeOnFirstUse() {
+    LongShiftList list = LongShiftList.of(1, 2, 3);
+    Spliterator.OfLong spliterator = list.spliterator();
+
+    list.addLastLong(4);  // before first use, so not a concurrent modification
+
+    assertThat(spliterator.estimateSize()).isEqualTo(4);
+    assertThat(StreamSupport.longStream(spliterator, false).sum()).isEqualTo(10);
+    assertThat(DoubleShiftList.of().asList()).isEmpty();
+  }
+}
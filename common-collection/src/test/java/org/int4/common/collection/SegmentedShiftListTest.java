@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package org.int4.common.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SegmentedShiftListTest extends AbstractListTest {
+
+  {
+    stressTestOperations = 50000;
+  }
+
+  @Override
+  protected List<String> createList() {
+    return new SegmentedShiftList<>();
+  }
+
+  @Test
+  void growingAndShrinkingShouldKeepElementsInOrder() {
+    Random rnd = new Random(1);
+    List<Integer> list = new SegmentedShiftList<>();
+    List<Integer> reference = new ArrayList<>();
+
+    for(int i = 0; i < 100000; i++) {  // grows by moving blocks as well as by copying to larger blocks
+      int index = i % 3 == 0 ? 0 : rnd.nextInt(reference.size() + 1);
+      Integer element = i % 7 == 0 ? null : i;
+
+      list.add(index, element);
+      reference.add(index, element);
+    }
+
+    assertThat(list).isEqualTo(reference);
+
+    while(reference.size() > 10) {
+      int index = rnd.nextInt(reference.size());
+
+      assertThat(list.remove(index)).isEqualTo(reference.remove(index));
+    }
+
+    assertThat(list).isEqualTo(reference);
+    assertThat(new SegmentedShiftList<>(reference)).isEqualTo(reference);
+  }
+
+  @Test
+  void snapshotsShouldBeIndependentOfEachOther() {
+    SegmentedShiftList<Integer> list = new SegmentedShiftList<>();
+
+    for(int i = 0; i < 50000; i++) {
+      list.add(i);
+    }
+
+    SegmentedShiftList<Integer> snapshot = list.snapshot();
+    List<Integer> original = List.copyOf(list);
+    List<Integer> expected = new ArrayList<>(original);
+
+    list.set(100, -1);
+    list.add(25000, -2);  // modifies many shared blocks
+    list.removeFirst();
+
+    SegmentedShiftList<Integer> secondSnapshot = snapshot.snapshot();
+
+    snapshot.remove(40000);
+    expected.remove(40000);
+
+    for(int i = 0; i < 100000; i++) {  // grows both by moving blocks, and by copying to larger blocks
+      secondSnapshot.add(i % 2 == 0 ? 0 : secondSnapshot.size(), i);
+    }
+
+    assertThat(snapshot).isEqualTo(expected);
+    assertThat(list.get(99)).isEqualTo(-1);
+    assertThat(list.get(24999)).isEqualTo(-2);
+    assertThat(list).hasSize(50000);
+    assertThat(secondSnapshot).hasSize(150000);
+    assertThat(secondSnapshot.subList(50000, 100000)).isEqualTo(original);
+  }
+}
@@ -24,11 +24,25 @@
 
 package org.int4.common.collection;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class ShiftListTest extends AbstractListTest {
 
@@ -59,4 +73,563 @@ public class ShiftListTest extends AbstractListTest {
     assertThat(list).isNotEqualTo(clone);
     assertThat(clone).isEqualTo(template);
   }
+
+  @Test
+  void cloneShouldStayIndependentWhenEitherSideIsModified() {
+    ShiftList<Integer> list = ShiftList.withIncrementalGrowth();
+
+    for(int i = 0; i < 1000; i++) {
+      list.addLast(i);  // leaves a growth in progress
+    }
+
+    List<Integer> template = List.copyOf(list);
+    ShiftList<Integer> clone = list.clone();
+    ShiftList<Integer> secondClone = clone.clone();
+
+    clone.set(0, -1);
+    clone.listIterator(500).next();
+
+    ListIterator<Integer> iterator = list.listIterator();
+
+    iterator.next();
+    iterator.set(-2);  // the array is shared with the clones, so should not be written directly
+    secondClone.sort(Comparator.reverseOrder());
+
+    assertThat(list.get(0)).isEqualTo(-2);
+    assertThat(list.subList(1, 1000)).isEqualTo(template.subList(1, 1000));
+    assertThat(clone.get(0)).isEqualTo(-1);
+    assertThat(clone.subList(1, 1000)).isEqualTo(template.subList(1, 1000));
+    assertThat(secondClone.getFirst()).isEqualTo(999);
+    assertThat(list.clone()).isEqualTo(list);
+  }
+
+  @Test
+  void cloneShouldStayIndependentWhenEitherSideIsResized() {
+    ShiftList<Integer> list = ShiftList.withIncrementalGrowth();
+
+    for(int i = 0; i < 1000; i++) {
+      list.addFirst(i);  // leaves a growth in progress with rotated blocks
+    }
+
+    List<Integer> template = List.copyOf(list);
+    ShiftList<Integer> clone = list.clone();
+
+    clone.ensureCapacity(5000);  // relayout while the arrays are shared
+    clone.set(0, -1);
+    list.set(0, -2);  // the clone no longer uses the shared arrays, so they are modified in place
+
+    ShiftList<Integer> secondClone = list.clone();
+
+    secondClone.subList(10, 1000).clear();
+    secondClone.trimToSize();
+    list.addFirst(-3);
+
+    assertThat(clone.get(0)).isEqualTo(-1);
+    assertThat(clone.subList(1, 1000)).isEqualTo(template.subList(1, 1000));
+    assertThat(list.subList(0, 2)).containsExactly(-3, -2);
+    assertThat(list.subList(2, 1001)).isEqualTo(template.subList(1, 1000));
+    assertThat(secondClone).containsExactly(-2, 998, 997, 996, 995, 994, 993, 992, 991, 990);
+  }
+
+  @Test
+  void serializationShouldPreserveElementsButNotLayout() throws IOException, ClassNotFoundException {
+    ShiftList<Integer> list = new ShiftList<>();
+    List<Integer> reference = new ArrayList<>();
+
+    insertSpread(10000, List.of(list, reference));
+
+    list.subList(0, 5000).clear();
+    reference.subList(0, 5000).clear();
+
+    byte[] bytes = serialize(list);
+
+    assertThat(bytes.length).isLessThan(serialize(reference).length + 100);  // no empty slots or rotations are written
+
+    @SuppressWarnings("unchecked")
+    ShiftList<Integer> copy = (ShiftList<Integer>)deserialize(bytes);
+
+    assertThat(copy).isEqualTo(reference);
+
+    copy.addFirst(-1);
+    copy.add(2500, -2);
+    reference.addFirst(-1);
+    reference.add(2500, -2);
+
+    assertThat(copy).isEqualTo(reference);
+    assertThat(deserialize(serialize(new ShiftList<>()))).isEqualTo(List.of());
+  }
+
+  @Test
+  void serializingReversedViewShouldWriteElementsInReverseOrder() throws IOException, ClassNotFoundException {
+    ShiftList<Integer> list = new ShiftList<>();
+
+    insertSpread(1000, List.of(list));
+
+    Object copy = deserialize(serialize(list.reversed()));
+
+    assertThat(copy).isExactlyInstanceOf(ShiftList.class).isEqualTo(list.reversed());
+  }
+
+  @Test
+  void constructorShouldRejectNegativeCapacity() {
+    assertThatThrownBy(() -> new ShiftList<>(-1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void presizedListsShouldBehaveAsRegularLists() {
+    ShiftList<Integer> list = new ShiftList<>(100000);
+    ShiftList<Integer> ensured = new ShiftList<>();
+    List<Integer> reference = new ArrayList<>();
+
+    ensured.ensureCapacity(100000);
+
+    insertSpread(200000, List.of(list, ensured, reference));
+
+    assertThat(list).isEqualTo(reference);
+    assertThat(ensured).isEqualTo(reference);
+
+    list.subList(10, list.size()).clear();
+    ensured.subList(10, ensured.size()).clear();
+    reference.subList(10, reference.size()).clear();
+
+    assertThat(list).isEqualTo(reference);
+    assertThat(ensured).isEqualTo(reference);
+  }
+
+  @Test
+  void boundedListShouldEvictOldestElements() {
+    List<Integer> evicted = new ArrayList<>();
+    ShiftList<Integer> list = ShiftList.bounded(100, ShiftList.OverflowPolicy.OVERWRITE_OLDEST, evicted::add);
+
+    for(int i = 0; i < 1000; i++) {
+      list.addLast(i);
+    }
+
+    assertThat(list).isEqualTo(IntStream.range(900, 1000).boxed().toList());
+    assertThat(evicted).isEqualTo(IntStream.range(0, 900).boxed().toList());
+
+    list.addFirst(-1);  // mirror case evicts the last element
+    list.reversed().addLast(-2);
+
+    assertThat(list).startsWith(-2, -1, 900).endsWith(996, 997).hasSize(100);
+    assertThat(evicted).endsWith(999, 998);
+
+    list.add(50, -3);  // elsewhere evicts the first element
+
+    assertThat(list.get(49)).isEqualTo(-3);
+    assertThat(list).startsWith(-1, 900).hasSize(100);
+    assertThat(evicted).endsWith(-2);
+  }
+
+  @Test
+  void boundedListShouldReplaceNewestElements() throws IOException, ClassNotFoundException {
+    ShiftList<Integer> list = ShiftList.bounded(3, ShiftList.OverflowPolicy.OVERWRITE_NEWEST);
+
+    list.addAll(List.of(1, 2, 3, 4, 5));
+
+    assertThat(list).containsExactly(1, 2, 5);
+
+    list.addFirst(0);
+    list.add(1, 9);
+
+    assertThat(list).containsExactly(0, 9, 2);
+
+    @SuppressWarnings("unchecked")
+    ShiftList<Integer> copy = (ShiftList<Integer>)deserialize(serialize(list));
+
+    copy.addLast(7);
+
+    assertThat(copy).containsExactly(0, 9, 7);
+  }
+
+  @Test
+  void boundedListShouldRejectElementsWhenFull() {
+    ShiftList<Integer> list = ShiftList.bounded(2, ShiftList.OverflowPolicy.REJECT);
+
+    list.add(1);
+
+    assertThatThrownBy(() -> list.addAll(List.of(2, 3))).isInstanceOf(IllegalStateException.class);
+    assertThat(list.offerFirst(0)).isTrue();
+    assertThat(list.offerLast(2)).isFalse();
+    assertThatThrownBy(() -> list.add(2)).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> list.add(1, 2)).isInstanceOf(IllegalStateException.class);
+    assertThat(list).containsExactly(0, 1);
+    assertThatThrownBy(() -> ShiftList.bounded(0, ShiftList.OverflowPolicy.REJECT)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shrinkingShouldKeepElementsInOrder() {
+    ShiftList<Integer> list = new ShiftList<>();
+    List<Integer> reference = new ArrayList<>();
+
+    insertSpread(100000, List.of(list, reference));
+
+    while(reference.size() > 10) {
+      int index = reference.size() / 3;
+
+      list.removeFirst();
+      list.removeLast();
+      list.remove(index);
+      reference.removeFirst();
+      reference.removeLast();
+      reference.remove(index);
+    }
+
+    assertThat(list).isEqualTo(reference);
+
+    list.addAll(0, List.of(-1, -2, -3));
+    reference.addAll(0, List.of(-1, -2, -3));
+
+    assertThat(list).isEqualTo(reference);
+  }
+
+  @Test
+  void trimToSizeShouldKeepElements() {
+    ShiftList<Integer> list = new ShiftList<>(IntStream.range(0, 10000).boxed().toList());
+
+    list.subList(0, 9000).clear();
+    list.trimToSize();
+
+    assertThat(list).isEqualTo(IntStream.range(9000, 10000).boxed().toList());
+
+    list.clear();
+    list.trimToSize();
+
+    assertThat(list).isEmpty();
+
+    list.add(1);
+
+    assertThat(list).containsExactly(1);
+  }
+
+  @Test
+  void growingIntoLargerBlocksShouldKeepRotatedElementsInOrder() {
+    ShiftList<Integer> list = new ShiftList<>();
+    List<Integer> reference = new ArrayList<>();
+
+    insertSpread(16000, List.of(list, reference));
+
+    int blockSize = list.blockSize();
+
+    insertSpread(24000, List.of(list, reference));
+
+    assertThat(list.blockSize()).isGreaterThan(blockSize);
+    assertThat(list).isEqualTo(reference);
+  }
+
+  @Test
+  void incrementalGrowthShouldServeOperationsWhileMigrating() {
+    verifyIncrementalGrowth(16384, 1024);  // block size remains the same
+  }
+
+  @Test
+  void incrementalGrowthShouldServeOperationsWhileMigratingToLargerBlocks() {
+    verifyIncrementalGrowth(32768, 2048);  // block size doubles
+  }
+
+  private static void verifyIncrementalGrowth(int length, int expectedBlockSize) {
+    ShiftList<Integer> list = ShiftList.withIncrementalGrowth();
+    List<Integer> reference = new ArrayList<>();
+
+    // fill both ends until the backing array of the given length starts growing:
+    for(int i = 0; !list.isGrowing() || reference.size() <= length / 2; i++) {
+      if(i % 2 == 0) {
+        list.addLast(i);
+        reference.addLast(i);
+      }
+      else {
+        list.addFirst(i);
+        reference.addFirst(i);
+      }
+    }
+
+    assertThat(list.blockSize()).isEqualTo(expectedBlockSize);
+
+    for(int i = 0; i < reference.size(); i++) {
+      assertThat(list.get(i)).isEqualTo(reference.get(i));
+    }
+
+    for(int i = 0; i < reference.size(); i += 1000) {
+      assertThat(list.set(i, -i)).isEqualTo(reference.set(i, -i));
+    }
+
+    assertThat(list.removeFirst()).isEqualTo(reference.removeFirst());
+    assertThat(list.removeLast()).isEqualTo(reference.removeLast());
+    assertThat(list.isGrowing()).isTrue();
+    assertThat(list).isEqualTo(reference);
+    assertThat(list.stream().toList()).isEqualTo(reference);
+    assertThat(list.toArray()).isEqualTo(reference.toArray());
+
+    List<Integer> visited = new ArrayList<>();
+
+    list.forEach(visited::add);
+
+    assertThat(visited).isEqualTo(reference);
+    assertThat(list.isGrowing()).isTrue();  // reads did not complete the growth
+
+    for(int i = 0; list.isGrowing(); i++) {
+      list.addLast(i);
+      reference.addLast(i);
+
+      assertThat(list.removeFirst()).isEqualTo(reference.removeFirst());
+    }
+
+    assertThat(list).isEqualTo(reference);
+  }
+
+  @Test
+  void iteratorsShouldTraverseRotatedBlocks() {
+    ShiftList<Integer> list = new ShiftList<>();
+    List<Integer> reference = new ArrayList<>();
+
+    insertSpread(1000, List.of(list, reference));
+
+    List<Integer> forward = new ArrayList<>();
+    List<Integer> backward = new ArrayList<>();
+
+    list.iterator().forEachRemaining(forward::add);
+
+    for(ListIterator<Integer> iterator = list.listIterator(list.size()); iterator.hasPrevious();) {
+      backward.addFirst(iterator.previous());
+    }
+
+    assertThat(forward).isEqualTo(reference);
+    assertThat(backward).isEqualTo(reference);
+  }
+
+  @Test
+  void bulkReadsAndReplaceAllShouldHandleRotatedBlocks() {
+    ShiftList<Integer> list = new ShiftList<>();
+    List<Integer> reference = new ArrayList<>();
+
+    insertSpread(5000, List.of(list, reference));
+
+    List<Integer> visited = new ArrayList<>();
+
+    list.forEach(visited::add);
+
+    assertThat(visited).isEqualTo(reference);
+    assertThat(list.toArray()).isEqualTo(reference.toArray());
+    assertThat(list.toArray(new Integer[0])).isEqualTo(reference.toArray(new Integer[0]));
+
+    Integer[] larger = new Integer[6000];
+
+    Arrays.fill(larger, -1);
+
+    assertThat(list.toArray(larger)).isSameAs(larger);
+    assertThat(larger[4999]).isEqualTo(reference.get(4999));
+    assertThat(larger[5000]).isNull();
+    assertThat(larger[5001]).isEqualTo(-1);
+
+    list.replaceAll(i -> i * 2);
+    reference.replaceAll(i -> i * 2);
+
+    assertThat(list).isEqualTo(reference);
+    assertThatThrownBy(() -> list.forEach(i -> list.add(i))).isInstanceOf(ConcurrentModificationException.class);
+    assertThatThrownBy(() -> list.toArray(new String[0])).isInstanceOf(ArrayStoreException.class);
+  }
+
+  @Test
+  void searchesShouldFindFirstAndLastOccurrences() {
+    ShiftList<Integer> list = new ShiftList<>();
+    List<Integer> reference = new ArrayList<>();
+
+    for(int i = 0; i < 5000; i++) {
+      int index = (i * 7) % (reference.size() + 1);
+      Integer value = i % 10 == 0 ? null : i % 100;  // rotated blocks with duplicates and nulls
+
+      list.add(index, value);
+      reference.add(index, value);
+    }
+
+    for(Integer value : Arrays.asList(null, 1, 42, 99, 100, -1)) {
+      assertThat(list.indexOf(value)).isEqualTo(reference.indexOf(value));
+      assertThat(list.lastIndexOf(value)).isEqualTo(reference.lastIndexOf(value));
+      assertThat(list.contains(value)).isEqualTo(reference.contains(value));
+    }
+
+    assertThat(list.removeFirstOccurrence(42)).isTrue();
+    assertThat(list.removeLastOccurrence(null)).isTrue();
+    assertThat(list.removeLastOccurrence(100)).isFalse();
+
+    reference.remove(reference.indexOf(42));
+    reference.remove(reference.lastIndexOf(null));
+
+    assertThat(list).isEqualTo(reference);
+  }
+
+  @Test
+  void sortShouldSortRotatedLists() {
+    for(int count : new int[] {0, 1, 1000, 100000}) {  // the largest is sorted in parallel
+      ShiftList<Integer> list = new ShiftList<>();
+      List<Integer> reference = new ArrayList<>();
+
+      insertSpread(count, List.of(list, reference));
+
+      for(int i = 0; i < count / 3; i++) {
+        list.addFirst(list.removeLast());  // moves the offset, so the elements wrap around the end of the backing array
+        reference.addFirst(reference.removeLast());
+      }
+
+      list.sort(Comparator.reverseOrder());
+      reference.sort(Comparator.reverseOrder());
+
+      assertThat(list).isEqualTo(reference);
+
+      list.sort(null);
+      reference.sort(null);
+
+      assertThat(list).isEqualTo(reference);
+
+      list.addFirst(-1);
+      list.add(list.size() / 2, -2);
+      reference.addFirst(-1);
+      reference.add(reference.size() / 2, -2);
+
+      assertThat(list).isEqualTo(reference);
+    }
+  }
+
+  @Test
+  void normalizeShouldKeepElementsUntilNextModification() {
+    ShiftList<Integer> list = ShiftList.withIncrementalGrowth();
+    List<Integer> reference = new ArrayList<>();
+
+    insertSpread(10000, List.of(list, reference));
+
+    for(int i = 0; i < 3000; i++) {
+      list.addFirst(list.removeLast());  // elements wrap around the end of the backing array
+      reference.addFirst(reference.removeLast());
+    }
+
+    list.normalize();
+
+    assertThat(list).isEqualTo(reference);
+    assertThat(list.set(5000, -1)).isEqualTo(reference.set(5000, -1));
+    assertThat(list.get(5000)).isEqualTo(-1);
+
+    list.add(10, -2);  // leaves normalized mode
+    list.addFirst(-3);
+    reference.add(10, -2);
+    reference.addFirst(-3);
+
+    assertThat(list).isEqualTo(reference);
+    assertThat(list.reversed().get(0)).isEqualTo(reference.getLast());
+
+    list.reversed().normalize();
+
+    assertThat(list).isEqualTo(reference);
+  }
+
+  @Test
+  void iteratorShouldFailFastOnConcurrentModification() {
+    ShiftList<Integer> list = new ShiftList<>(List.of(1, 2, 3, 4, 5));
+    Iterator<Integer> iterator = list.iterator();
+
+    iterator.next();
+    list.addFirst(0);
+
+    assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+    assertThatThrownBy(iterator::remove).isInstanceOf(ConcurrentModificationException.class);
+  }
+
+  @Test
+  void spliteratorShouldSplitIntoCompleteCoveringRanges() {
+    ShiftList<Integer> list = new ShiftList<>();
+
+    for(int i = 0; i < 10000; i++) {
+      list.add(i / 3, i);  // inserting in the middle rotates blocks
+    }
+
+    Spliterator<Integer> spliterator = list.spliterator();
+
+    assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)).isTrue();
+    assertThat(spliterator.estimateSize()).isEqualTo(10000);
+
+    Spliterator<Integer> prefix = spliterator.trySplit();
+    List<Integer> elements = new ArrayList<>();
+
+    assertThat(prefix).isNotNull();
+    assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(10000);
+    assertThat(list.toPosition((int)prefix.estimateSize()) & (list.blockSize() - 1)).isZero();  // split is on a block boundary
+
+    Spliterator<Integer> prefixOfPrefix = prefix.trySplit();
+
+    assertThat(prefixOfPrefix).isNotNull();
+    assertThat(list.toPosition((int)prefixOfPrefix.estimateSize()) & (list.blockSize() - 1)).isZero();
+
+    prefixOfPrefix.forEachRemaining(elements::add);
+    prefix.forEachRemaining(elements::add);
+    spliterator.forEachRemaining(elements::add);
+
+    assertThat(elements).isEqualTo(new ArrayList<>(list));
+    assertThat(list.parallelStream().mapToInt(Integer::intValue).sum()).isEqualTo(IntStream.range(0, 10000).sum());
+  }
+
+  @Test
+  void descendingSpliteratorShouldSplitOnBlockBoundaries() {
+    ShiftList<Integer> list = new ShiftList<>();
+
+    for(int i = 0; i < 10000; i++) {
+      list.add(i / 3, i);  // inserting in the middle rotates blocks
+    }
+
+    Spliterator<Integer> spliterator = list.reversed().spliterator();
+    Spliterator<Integer> prefix = spliterator.trySplit();
+    List<Integer> elements = new ArrayList<>();
+
+    assertThat(prefix).isNotNull();
+    assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(10000);
+
+    int splitIndex = 10000 - (int)prefix.estimateSize();  // prefix covers the highest indices
+
+    assertThat(list.toPosition(splitIndex) & (list.blockSize() - 1)).isZero();
+
+    prefix.forEachRemaining(elements::add);
+    spliterator.forEachRemaining(elements::add);
+
+    assertThat(elements).isEqualTo(new ArrayList<>(list.reversed()));
+  }
+
+  @Test
+  void reversedStreamsShouldReturnElementsInReverseOrder() {
+    ShiftList<Integer> list = new ShiftList<>();
+
+    for(int i = 0; i < 1000; i++) {
+      list.addFirst(i);
+    }
+
+    assertThat(list.reversed().stream().toList()).isEqualTo(IntStream.range(0, 1000).boxed().toList());
+    assertThat(list.reversed().parallelStream().toList()).isEqualTo(IntStream.range(0, 1000).boxed().toList());
+  }
+
+  private static byte[] serialize(Object object) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try(ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+    try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    }
+  }
+
+  /**
+   * Inserts the given number of elements at the same spread out indices in each of
+   * the given lists, which leaves the blocks of a {@link ShiftList} rotated.
+   */
+  private static void insertSpread(int count, List<List<Integer>> lists) {
+    for(int i = 0; i < count; i++) {
+      int index = (i * 7) % (lists.getFirst().size() + 1);
+
+      for(List<Integer> list : lists) {
+        list.add(index, i);
+      }
+    }
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 John Hendrikx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package org.int4.common.collection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SortedShiftListTest {
+
+  @Test
+  void shouldKeepElementsSortedLikeSortedArrayList() {
+    SortedShiftList<Integer> list = new SortedShiftList<>();
+    List<Integer> expected = new ArrayList<>();
+    Random rnd = new Random(1);
+
+    for(int i = 0; i < 20000; i++) {
+      Integer element = rnd.nextInt(5000);
+
+      if(rnd.nextInt(3) == 0 && !expected.isEmpty()) {
+        assertThat(list.remove(element)).isEqualTo(expected.remove(element));
+      }
+      else {
+        int index = list.insert(element);
+
+        expected.add(index, element);
+      }
+
+      if(i % 5000 == 0) {
+        List<Integer> batch = new ArrayList<>();
+
+        for(int j = 0; j < 1000; j++) {
+          batch.add(rnd.nextInt(5000));
+        }
+
+        batch.sort(null);
+        list.merge(batch);
+        expected.addAll(batch);
+        expected.sort(null);
+      }
+    }
+
+    assertThat(list).isSorted().isEqualTo(expected);
+
+    for(int i = -1; i <= 5000; i++) {
+      int value = i;
+
+      assertThat(list.indexOf(value)).isEqualTo(expected.indexOf(value));
+      assertThat(list.lastIndexOf(value)).isEqualTo(expected.lastIndexOf(value));
+      assertThat(list.rank(value)).isEqualTo((int)expected.stream().filter(e -> e < value).count());
+    }
+  }
+
+  @Test
+  void shouldFindFloorAndCeiling() {
+    SortedShiftList<String> list = new SortedShiftList<>(Comparator.reverseOrder());
+
+    list.merge(List.of("d", "b"));
+    list.insert("f");
+
+    assertThat(list).containsExactly("f", "d", "b");
+    assertThat(list.floor("e")).isEqualTo("f");
+    assertThat(list.ceiling("e")).isEqualTo("d");
+    assertThat(list.floor("d")).isEqualTo("d");
+    assertThat(list.ceiling("d")).isEqualTo("d");
+    assertThat(list.floor("g")).isNull();
+    assertThat(list.ceiling("a")).isNull();
+    assertThat(list.rank("c")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldKeepEqualElementsInInsertionOrder() {
+    SortedShiftList<String> list = new SortedShiftList<>(Comparator.comparing(String::length));
+
+    list.insert("bb");
+    list.insert("a");
+    list.insert("cc");
+    list.merge(List.of("d", "ee", "fff"));
+
+    assertThat(list).containsExactly("a", "d", "bb", "cc", "ee", "fff");
+    assertThat(list.indexOf("cc")).isEqualTo(3);
+    assertThat(list.indexOf("xx")).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldRejectUnsortedBatchesAndPositionalAdds() {
+    SortedShiftList<Integer> list = new SortedShiftList<>();
+
+    assertThatThrownBy(() -> list.merge(List.of(2, 1))).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> list.add(1)).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> list.add(0, 1)).isInstanceOf(UnsupportedOperationException.class);
+    assertThat(list).isEmpty();
+  }
+
+  @Test
+  void shouldRestoreElementsWhenMergeFails() {
+    SortedShiftList<Integer> list = new SortedShiftList<>((a, b) -> {
+      if(a == 55 && b == 60) {
+        throw new ClassCastException();
+      }
+
+      return Integer.compare(a, b);
+    });
+
+    list.merge(List.of(1, 50, 60));
+
+    assertThatThrownBy(() -> list.merge(List.of(42, 55))).isInstanceOf(ClassCastException.class);
+    assertThat(list).containsExactly(1, 50, 60);
+  }
+
+  @Test
+  void iteratorsShouldBeFailFastAndSupportRemoval() {
+    SortedShiftList<Integer> list = new SortedShiftList<>();
+
+    list.merge(List.of(1, 2, 3, 4, 5));
+
+    Iterator<Integer> iterator = list.iterator();
+    Spliterator<Integer> spliterator = list.spliterator();
+
+    list.merge(List.of(0, 6));
+
+    assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+    assertThat(spliterator.estimateSize()).isEqualTo(7);  // binds to the list on first use
+
+    List<Integer> subList = list.subList(0, 3);
+
+    for(Iterator<Integer> it = list.iterator(); it.hasNext();) {
+      if(it.next() % 2 == 0) {
+        it.remove();
+      }
+    }
+
+    assertThat(list).containsExactly(1, 3, 5);
+    assertThat(list.stream().toList()).containsExactly(1, 3, 5);
+    assertThatThrownBy(subList::size).isInstanceOf(ConcurrentModificationException.class);
+  }
+}